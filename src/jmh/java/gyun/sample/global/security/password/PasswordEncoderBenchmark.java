@@ -0,0 +1,72 @@
+package gyun.sample.global.security.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 인코더 비용 벤치마크 (app.security.password.* 설정값 선택 근거)
+ * - encode/matches: 강도(strength)별 BCrypt 1회 비용. 해시 1회 목표 시간(target-millis)과 비교하여 강도를 고릅니다.
+ * - verifiedCacheHit: 검증 캐시 적중 시(반복 로그인) BoundedPasswordEncoder.matches 비용
+ * 실행: ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String ENCODING_ID = "bcrypt";
+    private static final String PASSWORD = "benchmark-Password-1234!";
+
+    @Param({"10", "11", "12", "13"})
+    private int strength;
+
+    private BCryptPasswordEncoder bcrypt;
+    private BoundedPasswordEncoder bounded;
+    private String bcryptHash;
+    private String delegatingHash;
+
+    @Setup
+    public void setUp() {
+        bcrypt = new BCryptPasswordEncoder(strength);
+        bcryptHash = bcrypt.encode(PASSWORD);
+
+        // PasswordEncoderConfig와 같은 구성 (스레드 풀 1개, 검증 캐시 사용)
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        bounded = new BoundedPasswordEncoder(delegating, new SimpleMeterRegistry(), 1, 64, 60_000,
+                true, Duration.ofMinutes(10), 10_000);
+        delegatingHash = bounded.encode(PASSWORD);
+        bounded.matches(PASSWORD, delegatingHash); // 검증 캐시 적재
+    }
+
+    @TearDown
+    public void tearDown() {
+        bounded.close();
+    }
+
+    @Benchmark
+    public String encode() {
+        return bcrypt.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return bcrypt.matches(PASSWORD, bcryptHash);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean verifiedCacheHit() {
+        return bounded.matches(PASSWORD, delegatingHash);
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /*
 성능 관련하여 추가설명
@@ -20,6 +21,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @SpringBootApplication
 @EnableFeignClients
 @EnableAsync
+@EnableScheduling // 조회수 버퍼 플러시 등 주기 작업
 // @EnableJpaAuditing -> JpaAuditConfig로 이동하여 관리 (설정 분리)
 public class SampleApplication {
 
@@ -4,6 +4,7 @@ import gyun.sample.domain.admin.service.AdminBoardService;
 import gyun.sample.domain.board.enums.PostType;
 import gyun.sample.domain.board.payload.request.PostListRequest;
 import gyun.sample.domain.board.payload.response.PostListResponse;
+import gyun.sample.domain.board.payload.response.PostSliceResponse;
 import gyun.sample.global.enums.GlobalActiveEnums;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -37,12 +38,17 @@ public class AdminBoardController {
         if (bindingResult.hasErrors()) {
             // 에러 시 기본값으로 재설정 (Admin은 전체 조회를 기본으로 하므로 ACTIVE 필터 해제 등 고려 가능하나, Validator 로직상 ACTIVE가 기본일 수 있음)
             // 여기서는 전체 조회를 위해 active를 ALL로 두는 것이 좋지만, DTO 생성자 로직을 따름
-            request = new PostListRequest(1, 10, "", null, GlobalActiveEnums.ALL, null);
+            request = new PostListRequest(1, 10, "", null, GlobalActiveEnums.ALL, null, null);
         }
 
-        Page<PostListResponse> postPage = adminBoardService.getAllPostsForAdmin(request);
-
-        model.addAttribute("postPage", postPage);
+        // cursor 파라미터가 있으면 Keyset(커서) 방식으로 조회
+        if (request.isCursorMode()) {
+            PostSliceResponse postSlice = adminBoardService.getPostSliceForAdmin(request);
+            model.addAttribute("postSlice", postSlice);
+        } else {
+            Page<PostListResponse> postPage = adminBoardService.getAllPostsForAdmin(request);
+            model.addAttribute("postPage", postPage);
+        }
         model.addAttribute("postTypes", PostType.values());
         model.addAttribute("activeTypes", GlobalActiveEnums.values());
 
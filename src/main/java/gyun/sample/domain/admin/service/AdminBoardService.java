@@ -2,10 +2,14 @@ package gyun.sample.domain.admin.service;
 
 import com.querydsl.core.types.Predicate;
 import gyun.sample.domain.board.entity.Post;
+import gyun.sample.domain.board.payload.dto.PostCursor;
+import gyun.sample.domain.board.payload.dto.PostListDTO;
 import gyun.sample.domain.board.payload.request.PostListRequest;
 import gyun.sample.domain.board.payload.response.PostListResponse;
+import gyun.sample.domain.board.payload.response.PostSliceResponse;
 import gyun.sample.domain.board.repository.PostRepository;
 import gyun.sample.domain.board.repository.PostSpecification;
+import gyun.sample.domain.board.search.PostSearchIndex;
 import gyun.sample.domain.log.enums.LogType;
 import gyun.sample.domain.log.event.PostActivityEvent;
 import gyun.sample.global.exception.GlobalException;
@@ -19,6 +23,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -32,6 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminBoardService {
 
     private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
     private final ApplicationEventPublisher eventPublisher;
     private final HttpServletRequest httpServletRequest;
 
@@ -44,12 +50,26 @@ public class AdminBoardService {
         Pageable pageable = PageRequest.of(request.page() - 1, request.size(), sort);
 
         // PostType이 null이면 전체 조회
-        Predicate predicate = PostSpecification.searchPost(request, null);
+        Predicate predicate = PostSpecification.searchPost(request, null, postSearchIndex);
 
-        Page<Post> posts = postRepository.findAllWithAuthor(predicate, pageable);
+        // [성능 개선] 본문(content)을 제외한 Projection 조회
+        Page<PostListDTO> posts = postRepository.findAllForList(predicate, pageable);
         return posts.map(PostListResponse::new);
     }
 
+    /**
+     * 관리자용 전체 게시글 Keyset(커서) 조회
+     * - 깊은 페이지 조회 시 OFFSET/COUNT 비용이 없습니다.
+     */
+    @Transactional(readOnly = true)
+    public PostSliceResponse getPostSliceForAdmin(PostListRequest request) {
+        Predicate predicate = PostSpecification.searchPost(request, null, postSearchIndex);
+        PostCursor cursor = PostCursor.decode(request.cursor());
+
+        Slice<PostListDTO> slice = postRepository.findSliceForList(predicate, cursor, request.size());
+        return PostSliceResponse.from(slice);
+    }
+
     /**
      * 게시글 비활성화 (ACTIVE -> INACTIVE, Soft Delete)
      * [추가] 관리자 권한으로 강제 비활성화
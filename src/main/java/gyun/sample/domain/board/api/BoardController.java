@@ -8,7 +8,13 @@ import gyun.sample.domain.board.payload.request.PostListRequest;
 import gyun.sample.domain.board.payload.request.PostUpdateRequest;
 import gyun.sample.domain.board.payload.response.PostDetailResponse;
 import gyun.sample.domain.board.payload.response.PostListResponse;
+import gyun.sample.domain.board.payload.response.PostSliceResponse;
 import gyun.sample.domain.board.service.PostStrategyFactory;
+import gyun.sample.domain.board.payload.dto.PostVersion;
+import gyun.sample.domain.board.service.common.BoardConditionalGet;
+import gyun.sample.domain.board.service.common.BoardFragmentCache;
+import gyun.sample.domain.board.service.common.MemberLikedPostIndex;
+import gyun.sample.domain.board.service.common.PostViewDeduplicator;
 import gyun.sample.domain.board.service.read.ReadPostService;
 import gyun.sample.domain.board.service.write.WritePostService;
 import gyun.sample.domain.board.validator.PostListValidator;
@@ -16,6 +22,7 @@ import gyun.sample.domain.board.validator.PostValidator;
 import gyun.sample.domain.log.enums.LogType;
 import gyun.sample.domain.log.event.PostActivityEvent;
 import gyun.sample.global.annotaion.CurrentAccount;
+import gyun.sample.global.cache.FragmentRenderer;
 import gyun.sample.global.exception.GlobalException;
 import gyun.sample.global.exception.enums.ErrorCode;
 import gyun.sample.global.utils.UtilService;
@@ -39,6 +46,10 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Slf4j
 @Tag(name = "BoardController", description = "게시판 컨트롤러")
@@ -51,6 +62,13 @@ public class BoardController {
     private final PostValidator postValidator;
     private final PostListValidator postListValidator; // 추가
     private final ApplicationEventPublisher eventPublisher;
+    private final PostViewDeduplicator postViewDeduplicator;
+    private final BoardFragmentCache boardFragmentCache;
+    private final FragmentRenderer fragmentRenderer;
+    private final BoardConditionalGet boardConditionalGet;
+    private final MemberLikedPostIndex likedPostIndex;
+
+    private static final String LEGACY_VIEW_COOKIE_PREFIX = "post_view_";
 
     @InitBinder("postCreateRequest")
     public void initBinderCreate(WebDataBinder binder) {
@@ -74,23 +92,64 @@ public class BoardController {
             @PathVariable String type,
             @Valid @ModelAttribute("postListRequest") PostListRequest request,
             BindingResult bindingResult,
+            @CurrentAccount CurrentAccountDTO currentAccount,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse,
             Model model) {
 
         PostType postType = getValidPostType(type);
 
+        // [성능 개선] 재방문(검증값 일치) 시 게시판 워터마크 조회 한 번으로 304 응답
+        if (boardConditionalGet.isApplicable(currentAccount, httpRequest)
+                && boardConditionalGet.checkListNotModified(postType, httpRequest, httpResponse)) {
+            return null;
+        }
+
         // 유효성 검사 실패 시 (예: 일반 유저가 INACTIVE 조회 시도)
-        if (bindingResult.hasErrors()) {
+        boolean invalidRequest = bindingResult.hasErrors();
+        if (invalidRequest) {
             // 기본값으로 재설정하여 조회하거나 에러 페이지로 보냄. 여기서는 기본값으로 재조회 로직
-            request = new PostListRequest(1, 10, "", null, null, null);
+            request = new PostListRequest(1, 10, "", null, null, null, null);
+            // 검색창/페이지 링크가 거부된 입력값이 아닌 재설정된 요청으로 렌더링되도록 교체 (BindingResult도 함께 제거됨)
+            model.addAttribute("postListRequest", request);
         }
 
-        ReadPostService readService = postStrategyFactory.getReadService(postType);
-        Page<PostListResponse> postPage = readService.getPostAll(request);
-
-        model.addAttribute("postPage", postPage);
         model.addAttribute("postType", postType);
         model.addAttribute("typeStr", type.toLowerCase());
 
+        PostListRequest listRequest = request;
+        Supplier<BoardFragmentCache.ListPage> renderList = () -> {
+            ReadPostService readService = postStrategyFactory.getReadService(postType);
+
+            // [성능 개선] cursor 파라미터가 있으면 Keyset(커서) 방식으로 조회 (OFFSET/COUNT 없음)
+            List<PostListResponse> posts;
+            if (listRequest.isCursorMode()) {
+                PostSliceResponse postSlice = readService.getPostSlice(listRequest);
+                model.addAttribute("postSlice", postSlice);
+                posts = postSlice.content();
+            } else {
+                Page<PostListResponse> postPage = readService.getPostAll(listRequest);
+                model.addAttribute("postPage", postPage);
+                posts = postPage.getContent();
+            }
+
+            return new BoardFragmentCache.ListPage(posts.stream().map(PostListResponse::id).toList(),
+                    fragmentRenderer.render("board/fragments/list", "list", model.asMap(), httpRequest, httpResponse));
+        };
+
+        // [성능 개선] 목록 본문 렌더링 결과 캐시: 적중 시 목록 조회 쿼리와 렌더링 생략 (로그인 여부와 무관하게 같은 조각 사용)
+        // 유효성 검사에 실패한 요청은 재설정된 요청으로 직접 렌더링
+        BoardFragmentCache.ListPage listPage = invalidRequest
+                ? renderList.get()
+                : boardFragmentCache.getList(postType, listRequest, renderList);
+        model.addAttribute("listFragment", listPage.fragment());
+        model.addAttribute("listPostIds", listPage.postIds());
+
+        // [성능 개선] 로그인 사용자의 좋아요 표시는 회원별 좋아요 집합에서 판별하여 조각의 구멍에 렌더링 (post_like 조회 없음)
+        if (currentAccount.id() != 0L) {
+            model.addAttribute("likedPostIds", likedPostIndex.findLiked(currentAccount.id(), listPage.postIds()));
+        }
+
         return "board/list";
     }
 
@@ -106,15 +165,33 @@ public class BoardController {
 
         PostType postType = getValidPostType(type);
 
+        // [성능 개선] 재방문(검증값 일치) 시 기본 키 조회 한 번으로 304 응답 (조회수 집계는 동일하게 처리)
+        if (boardConditionalGet.isApplicable(currentAccount, request)) {
+            Optional<PostVersion> version = boardConditionalGet.findVersion(postType, id);
+            if (version.isPresent() && boardConditionalGet.checkDetailNotModified(version.get(), request, response)) {
+                handleViewCountAndLog(id, postType, version.get().title(), currentAccount, request, response);
+                return null;
+            }
+        }
+
         // 1. 상세 데이터 조회 (먼저 조회하여 로그에 필요한 정보를 확보)
+        // [성능 개선] 비로그인 요청은 캐시된 데이터/본문 조각을 그대로 사용 (조회 쿼리, 본문 렌더링 생략)
+        // 로그인 회원은 좋아요 여부 등 사용자별 데이터를 조회하고 본문 조각만 캐시에서 가져옴
         ReadPostService readService = postStrategyFactory.getReadService(postType);
-        PostDetailResponse post = readService.getPostDetail(id, currentAccount.id());
-
-        // 2. 조회수 증가 및 로그 발행 (쿠키 기반 중복 방지)
+        PostDetailResponse memberView = currentAccount.id() == 0L ? null : readService.getPostDetail(id, currentAccount.id());
+        BoardFragmentCache.Detail cached = boardFragmentCache.getDetail(postType, id, () -> {
+            PostDetailResponse guestView = memberView != null ? memberView.asGuestView() : readService.getPostDetail(id, 0L);
+            return new BoardFragmentCache.Detail(guestView, fragmentRenderer.render("board/fragments/detail", "article",
+                    Map.of("post", guestView, "postType", postType, "typeStr", type.toLowerCase()), request, response));
+        });
+        PostDetailResponse post = memberView != null ? memberView : cached.post();
+
+        // 2. 조회수 증가 및 로그 발행 (서버 측 중복 조회 판별)
         // [수정] 조회수가 실제 증가할 때만 로그를 발행하도록 로직 변경
-        handleViewCountAndLog(id, postType, post, currentAccount, request, response);
+        handleViewCountAndLog(id, postType, post.title(), currentAccount, request, response);
 
         model.addAttribute("post", post);
+        model.addAttribute("postFragment", cached.fragment());
         model.addAttribute("postType", postType);
         model.addAttribute("typeStr", type.toLowerCase());
         model.addAttribute("currentUser", currentAccount);
@@ -261,40 +338,44 @@ public class BoardController {
     }
 
     // [수정] 조회수 증가 및 로그 발행 통합 메소드
-    private void handleViewCountAndLog(Long postId, PostType postType, PostDetailResponse post,
+    // [성능 개선] 게시글별 쿠키 대신 서버 측 Bloom Filter로 중복 조회 판별 (요청 헤더 크기 고정)
+    private void handleViewCountAndLog(Long postId, PostType postType, String postTitle,
                                        CurrentAccountDTO account,
                                        HttpServletRequest request, HttpServletResponse response) {
-        String cookieName = "post_view_" + postId;
-        boolean alreadyViewed = false;
+        expireLegacyViewCookies(request, response);
 
-        if (request.getCookies() != null) {
-            alreadyViewed = Arrays.stream(request.getCookies())
-                    .anyMatch(cookie -> cookie.getName().equals(cookieName));
-        }
-
-        if (!alreadyViewed) {
+        if (postViewDeduplicator.isFirstView(postId, account.id(), UtilService.getClientIp(request))) {
             // 1. 조회수 증가
             WritePostService writeService = postStrategyFactory.getWriteService(postType);
             writeService.increaseViewCount(postId);
 
-            // 2. 쿠키 발급
-            Cookie newCookie = new Cookie(cookieName, "true");
-            newCookie.setPath("/");
-            newCookie.setMaxAge(60 * 60 * 24); // 24시간
-            response.addCookie(newCookie);
+            // 2. 로그 발행 (최초 조회 시에만 발행하여 DB 부하 감소)
+            publishViewLog(postId, postTitle, account, request);
+        }
+    }
 
-            // 3. 로그 발행 (최초 조회 시에만 발행하여 DB 부하 감소)
-            publishViewLog(post, account, request);
+    // 이전 방식으로 발급된 post_view_{id} 쿠키가 남아 있으면 만료시켜 헤더 크기를 줄임
+    private void expireLegacyViewCookies(HttpServletRequest request, HttpServletResponse response) {
+        if (request.getCookies() == null) {
+            return;
         }
+        Arrays.stream(request.getCookies())
+                .filter(cookie -> cookie.getName().startsWith(LEGACY_VIEW_COOKIE_PREFIX))
+                .forEach(cookie -> {
+                    Cookie expired = new Cookie(cookie.getName(), "");
+                    expired.setPath("/");
+                    expired.setMaxAge(0);
+                    response.addCookie(expired);
+                });
     }
 
-    private void publishViewLog(PostDetailResponse post, CurrentAccountDTO account, HttpServletRequest request) {
+    private void publishViewLog(Long postId, String postTitle, CurrentAccountDTO account, HttpServletRequest request) {
         String executorId = account.id() == 0L ? "GUEST" : account.loginId();
         String clientIp = UtilService.getClientIp(request);
 
         eventPublisher.publishEvent(PostActivityEvent.of(
-                post.postId(),
-                post.title(),
+                postId,
+                postTitle,
                 executorId,
                 LogType.POST_VIEW,
                 "게시글 조회 (IP: " + clientIp + ")",
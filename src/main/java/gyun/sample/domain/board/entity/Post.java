@@ -9,6 +9,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 
 @Entity
@@ -17,7 +18,11 @@ import org.hibernate.annotations.Comment;
 // [성능 개선] 검색 조건으로 자주 사용되는 postType과 active에 복합 인덱스 추가
 @Table(name = "post", indexes = {
         @Index(name = "idx_post_type_active", columnList = "postType, active"),
-        @Index(name = "idx_post_created_at", columnList = "createdAt") // 최신순 정렬 성능 향상
+        @Index(name = "idx_post_created_at", columnList = "createdAt"), // 최신순 정렬 성능 향상
+        // Keyset 페이지네이션 (isPinned, createdAt, id) DESC 정렬/Seek 조건용 복합 인덱스
+        @Index(name = "idx_post_type_active_pinned_created", columnList = "postType, active, isPinned, createdAt, post_id"),
+        // 조건부 요청(ETag) 목록 워터마크: 게시판별 MAX(modifiedAt)
+        @Index(name = "idx_post_type_modified_at", columnList = "postType, modifiedAt")
 })
 public class Post extends BaseTimeEntity {
 
@@ -33,6 +38,24 @@ public class Post extends BaseTimeEntity {
     @Comment("게시글 내용")
     private String content;
 
+    // [성능 개선] 목록 조회 시 본문(TEXT)을 읽지 않도록 작성/수정 시점에 미리 계산해 두는 파생 컬럼
+    @Column(length = 1000)
+    @Comment("대표 썸네일 URL (본문 첫 번째 이미지)")
+    private String thumbnailUrl;
+
+    @ColumnDefault("false")
+    @Comment("본문 이미지 포함 여부")
+    private boolean hasImage = false;
+
+    @Column(length = 300)
+    @Comment("본문 요약 (HTML 제거된 평문, null이면 백필 대상)")
+    private String excerpt;
+
+    // 인덱스(tsvector GIN, Trigram GIN)는 db/schema/01-post-search-index.sql에서 생성 (JPA @Index로 표현 불가)
+    @Column(columnDefinition = "TEXT")
+    @Comment("검색용 정규화 텍스트 (제목 + 닉네임 + 본문 평문, 소문자, null이면 백필 대상)")
+    private String searchText;
+
     @Enumerated(EnumType.STRING)
     @Column(columnDefinition = "varchar(255)")
     @Comment("게시판 타입 (FREE, SUGGESTION)")
@@ -70,6 +93,18 @@ public class Post extends BaseTimeEntity {
         this.content = request.content();
     }
 
+    // 본문에서 파생된 목록용 데이터 갱신 (작성/수정/백필 시 호출)
+    public void updateContentSummary(String thumbnailUrl, boolean hasImage, String excerpt) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.hasImage = hasImage;
+        this.excerpt = excerpt;
+    }
+
+    // 검색용 텍스트 갱신 (작성/수정/백필/작성자 닉네임 변경 시 호출)
+    public void updateSearchText(String searchText) {
+        this.searchText = searchText;
+    }
+
     // 조회수 증가 (메모리 상에서만 증가, 실제 DB 반영은 Bulk Update 권장)
     public void increaseViewCount() {
         this.viewCount++;
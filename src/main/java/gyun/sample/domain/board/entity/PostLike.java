@@ -10,6 +10,13 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 같은 회원의 중복 좋아요 방지 + 멱등 INSERT(ON CONFLICT) 대상
+// 회원별 좋아요 게시글 ID 적재(MemberLikedPostIndex)는 member_id 선두 인덱스로 Index Only Scan
+@Table(name = "post_like", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_like_post_member", columnNames = {"post_id", "member_id"})
+}, indexes = {
+        @Index(name = "idx_post_like_member_post", columnList = "member_id, post_id")
+})
 public class PostLike extends BaseTimeEntity {
 
     @Id
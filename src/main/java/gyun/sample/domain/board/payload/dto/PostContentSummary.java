@@ -0,0 +1,72 @@
+package gyun.sample.domain.board.payload.dto;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문(HTML)에서 파생되는 목록용 데이터
+ * - 작성/수정 시점에 한 번만 계산하여 Post 엔티티에 저장합니다.
+ * - 목록 조회에서는 본문(TEXT)을 읽지 않고 이 값만 사용합니다.
+ */
+public record PostContentSummary(
+        String thumbnailUrl,
+        boolean hasImage,
+        String excerpt
+) {
+
+    public static final int EXCERPT_MAX_LENGTH = 150;
+
+    // 정규식은 컴파일 비용이 크므로 한 번만 생성하여 재사용
+    private static final Pattern IMG_TAG = Pattern.compile("<img\\b[^>]*>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern IMG_SRC = Pattern.compile("\\bsrc\\s*=\\s*([\"'])(.*?)\\1", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern NON_TEXT_BLOCK = Pattern.compile("<(script|style)\\b[^>]*>.*?</\\1>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static PostContentSummary from(String content) {
+        if (content == null || content.isBlank()) {
+            return new PostContentSummary(null, false, "");
+        }
+
+        String thumbnailUrl = null;
+        Matcher imgMatcher = IMG_TAG.matcher(content);
+        boolean hasImage = imgMatcher.find();
+        if (hasImage) {
+            Matcher srcMatcher = IMG_SRC.matcher(imgMatcher.group());
+            if (srcMatcher.find() && !srcMatcher.group(2).isBlank()) {
+                thumbnailUrl = srcMatcher.group(2).trim();
+            }
+        }
+
+        return new PostContentSummary(thumbnailUrl, hasImage, extractExcerpt(content));
+    }
+
+    /**
+     * 본문(HTML)을 평문으로 변환 (script/style 블록과 태그 제거, 주요 엔티티 복원, 공백 정리)
+     */
+    public static String toPlainText(String content) {
+        if (content == null || content.isBlank()) {
+            return "";
+        }
+        String text = NON_TEXT_BLOCK.matcher(content).replaceAll(" ");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        text = text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    // 평문을 최대 EXCERPT_MAX_LENGTH 글자까지 자름
+    private static String extractExcerpt(String content) {
+        String text = toPlainText(content);
+        if (text.length() <= EXCERPT_MAX_LENGTH) {
+            return text;
+        }
+        // 이모지 등 서로게이트 쌍이 잘리지 않도록 경계 보정
+        int end = Character.isHighSurrogate(text.charAt(EXCERPT_MAX_LENGTH - 1)) ? EXCERPT_MAX_LENGTH - 1 : EXCERPT_MAX_LENGTH;
+        return text.substring(0, end).trim() + "…";
+    }
+}
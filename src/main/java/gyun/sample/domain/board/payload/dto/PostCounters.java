@@ -0,0 +1,10 @@
+package gyun.sample.domain.board.payload.dto;
+
+/**
+ * 게시글 카운터의 DB 반영 값 (아직 반영되지 않은 버퍼 증감분은 포함하지 않음)
+ */
+public record PostCounters(
+        int viewCount,
+        int likeCount
+) {
+}
@@ -0,0 +1,50 @@
+package gyun.sample.domain.board.payload.dto;
+
+import gyun.sample.global.exception.GlobalException;
+import gyun.sample.global.exception.enums.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 Keyset(Seek) 페이지네이션 커서
+ * - 정렬 기준 (isPinned DESC, createdAt DESC, id DESC)의 마지막 행 위치를 담습니다.
+ * - 클라이언트에는 내부 구조를 노출하지 않도록 Base64(URL-safe) 문자열 토큰으로 전달합니다.
+ */
+public record PostCursor(
+        boolean isPinned,
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static PostCursor of(PostListDTO last) {
+        return new PostCursor(last.isPinned(), last.createdAt(), last.id());
+    }
+
+    public String encode() {
+        String raw = (isPinned ? "1" : "0") + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 커서로 복원합니다. 비어 있으면 첫 페이지를 의미하므로 null을 반환합니다.
+     */
+    public static PostCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("invalid cursor parts");
+            }
+            return new PostCursor("1".equals(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new GlobalException(ErrorCode.INVALID_PARAMETER, "잘못된 페이지 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package gyun.sample.domain.board.payload.dto;
+
+import gyun.sample.domain.board.enums.PostType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세의 변하지 않는 부분 (수정 전까지 모든 사용자에게 동일)
+ * - 작성자 닉네임을 조인으로 함께 읽어 지연 로딩(getAuthor) 쿼리를 없앱니다.
+ * - PostDetailCache에 게시글 ID를 키로 저장되며, 수정 여부를 modifiedAt으로 검사하지 않습니다. (이벤트 무효화 + TTL)
+ */
+public record PostDetailSnapshot(
+        Long postId,
+        PostType postType,
+        String title,
+        String content,
+        String authorNickname,
+        Long authorUserId,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        String thumbnailUrl
+) {
+}
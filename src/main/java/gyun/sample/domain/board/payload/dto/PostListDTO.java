@@ -0,0 +1,26 @@
+package gyun.sample.domain.board.payload.dto;
+
+import gyun.sample.domain.board.enums.PostType;
+import gyun.sample.global.enums.GlobalActiveEnums;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 Projection
+ * - 본문(content) 컬럼을 SELECT 하지 않기 위해 엔티티 대신 필요한 컬럼만 조회합니다.
+ */
+public record PostListDTO(
+        Long id,
+        String title,
+        String authorNickname,
+        int viewCount,
+        int likeCount,
+        boolean isPinned,
+        GlobalActiveEnums active,
+        PostType postType,
+        String thumbnailUrl,
+        boolean hasImage,
+        String excerpt,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,21 @@
+package gyun.sample.domain.board.payload.dto;
+
+import gyun.sample.domain.board.enums.PostType;
+import gyun.sample.global.enums.GlobalActiveEnums;
+
+import java.time.LocalDateTime;
+
+/**
+ * 애플리케이션 내 검색 색인(PostSearchIndex) 구축용 원본 데이터
+ * - 엔티티 대신 필요한 컬럼만 조회하여 영속성 컨텍스트에 쌓이지 않도록 합니다.
+ */
+public record PostSearchSource(
+        Long id,
+        PostType postType,
+        GlobalActiveEnums active,
+        String title,
+        String nickName,
+        String content,
+        LocalDateTime modifiedAt // 색인 갱신 순서 역전 방지용 버전
+) {
+}
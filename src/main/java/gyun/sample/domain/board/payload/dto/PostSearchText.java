@@ -0,0 +1,29 @@
+package gyun.sample.domain.board.payload.dto;
+
+import java.util.Locale;
+
+/**
+ * 게시글 검색 전용 정규화 텍스트 (Post.searchText)
+ * - 제목 + 작성자 닉네임 + 본문 평문을 소문자로 합친 값입니다.
+ * - Full-Text(tsvector) GIN 인덱스와 Trigram GIN 인덱스가 이 컬럼 하나를 대상으로 하므로,
+ * 통합(ALL) 검색이 회원 테이블 조인이나 본문 HTML 전체 스캔 없이 인덱스로 처리됩니다.
+ */
+public record PostSearchText(String value) {
+
+    // tsvector 최대 크기(1MB) 초과 오류를 막기 위한 상한
+    public static final int MAX_LENGTH = 100_000;
+
+    public static PostSearchText of(String title, String nickName, String content) {
+        String text = String.join(" ",
+                title != null ? title : "",
+                nickName != null ? nickName : "",
+                PostContentSummary.toPlainText(content)
+        ).trim().toLowerCase(Locale.ROOT);
+
+        if (text.length() > MAX_LENGTH) {
+            int end = Character.isHighSurrogate(text.charAt(MAX_LENGTH - 1)) ? MAX_LENGTH - 1 : MAX_LENGTH;
+            text = text.substring(0, end);
+        }
+        return new PostSearchText(text);
+    }
+}
@@ -0,0 +1,17 @@
+package gyun.sample.domain.board.payload.dto;
+
+import gyun.sample.domain.board.enums.PostType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 요청(ETag/Last-Modified) 판별용 게시글 변경 정보
+ * - 기본 키 조회 한 번으로 본문(TEXT) 없이 읽으며, 304 응답 시 조회수/조회 로그 처리에도 사용합니다.
+ */
+public record PostVersion(
+        Long id,
+        PostType postType,
+        String title,
+        LocalDateTime modifiedAt
+) {
+}
@@ -17,7 +17,9 @@ public record PostListRequest(
         @Schema(description = "상태 필터 (ACTIVE, INACTIVE, ALL) - 관리자용", example = "ACTIVE")
         GlobalActiveEnums active,
         @Schema(description = "게시판 타입 필터 (FREE, SUGGESTION) - 관리자용", example = "FREE")
-        PostType searchPostType
+        PostType searchPostType,
+        @Schema(description = "Keyset 페이지 커서 (값이 있으면 커서 방식으로 조회, 빈 문자열이면 첫 페이지)")
+        String cursor
 ) {
     public PostListRequest {
         if (page == null || page < 1) page = 1;
@@ -26,4 +28,9 @@ public record PostListRequest(
         if (searchWord == null) searchWord = "";
         if (active == null) active = GlobalActiveEnums.ACTIVE; // 기본값은 활성 상태만
     }
+
+    // cursor 파라미터가 전달되면(빈 값 포함) 오프셋 대신 Keyset 페이지네이션 사용
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
 }
\ No newline at end of file
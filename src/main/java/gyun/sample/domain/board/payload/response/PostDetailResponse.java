@@ -33,22 +33,14 @@ public record PostDetailResponse(
                 UtilService.formattedTime(post.getCreatedAt()),
                 // [SEO] ISO 포맷 변환
                 post.getCreatedAt() != null ? post.getCreatedAt().toString() : "",
-                // [SEO] 본문에서 첫 번째 이미지 URL 추출
-                extractThumbnail(post.getContent())
+                // [SEO] 작성/수정 시점에 저장된 대표 썸네일 URL
+                post.getThumbnailUrl()
         );
     }
 
-    // 본문에서 첫 번째 이미지 태그의 src 추출 로직
-    private static String extractThumbnail(String content) {
-        if (content == null || !content.contains("<img")) return null;
-        try {
-            int srcStart = content.indexOf("src=\"");
-            if (srcStart == -1) return null;
-            int srcEnd = content.indexOf("\"", srcStart + 5);
-            if (srcEnd == -1) return null;
-            return content.substring(srcStart + 5, srcEnd);
-        } catch (Exception e) {
-            return null;
-        }
+    // 비로그인 기준 데이터 (렌더링 결과 캐시에 저장하여 다른 사용자와 공유)
+    public PostDetailResponse asGuestView() {
+        return isLiked ? new PostDetailResponse(postId, title, content, authorNickname, authorUserId, viewCount, likeCount,
+                postType, false, createdAt, createdAtIso, thumbnailUrl) : this;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package gyun.sample.domain.board.payload.response;
 
 import gyun.sample.domain.board.entity.Post;
+import gyun.sample.domain.board.payload.dto.PostListDTO;
 import gyun.sample.global.enums.GlobalActiveEnums;
 import gyun.sample.global.utils.UtilService;
 
@@ -15,6 +16,7 @@ public record PostListResponse(
         String postType,          // [수정] 필드 추가: 게시글 타입 (타임리프에서 접근 필요)
         String thumbnailUrl,
         boolean hasImage,
+        String excerpt,           // 본문 요약 (HTML 제거된 평문)
         String createdAt
 ) {
     public PostListResponse(Post post) {
@@ -28,22 +30,29 @@ public record PostListResponse(
                 post.getActive(),
                 // [수정] Post Entity에서 타입 가져와서 매핑 (null일 경우 기본값 처리)
                 post.getPostType() != null ? post.getPostType().name() : "FREE",
-                extractThumbnail(post.getContent()),
-                post.getContent() != null && post.getContent().contains("<img"),
+                // [성능 개선] 본문 파싱 대신 작성/수정 시점에 저장된 값 사용
+                post.getThumbnailUrl(),
+                post.isHasImage(),
+                post.getExcerpt(),
                 UtilService.formattedTime(post.getCreatedAt())
         );
     }
 
-    private static String extractThumbnail(String content) {
-        if (content == null || !content.contains("<img")) return null;
-        try {
-            int srcStart = content.indexOf("src=\"");
-            if (srcStart == -1) return null;
-            int srcEnd = content.indexOf("\"", srcStart + 5);
-            if (srcEnd == -1) return null;
-            return content.substring(srcStart + 5, srcEnd);
-        } catch (Exception e) {
-            return null;
-        }
+    // [성능 개선] 본문을 조회하지 않는 Projection 결과로부터 생성
+    public PostListResponse(PostListDTO dto) {
+        this(
+                dto.id(),
+                dto.title(),
+                dto.authorNickname(),
+                dto.viewCount(),
+                dto.likeCount(),
+                dto.isPinned(),
+                dto.active(),
+                dto.postType() != null ? dto.postType().name() : "FREE",
+                dto.thumbnailUrl(),
+                dto.hasImage(),
+                dto.excerpt(),
+                UtilService.formattedTime(dto.createdAt())
+        );
     }
-}
\ No newline at end of file
+}
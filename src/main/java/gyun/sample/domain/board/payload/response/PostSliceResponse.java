@@ -0,0 +1,37 @@
+package gyun.sample.domain.board.payload.response;
+
+import gyun.sample.domain.board.payload.dto.PostCursor;
+import gyun.sample.domain.board.payload.dto.PostListDTO;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 게시글 목록 Keyset 페이지 응답 (Slice 형태)
+ * - 전체 개수(COUNT)를 계산하지 않고, 다음 페이지 존재 여부와 다음 커서만 제공합니다.
+ */
+public record PostSliceResponse(
+        List<PostListResponse> content,
+        int size,
+        boolean hasNext,
+        String nextCursor // 다음 페이지 요청 시 그대로 전달하는 불투명 토큰 (마지막 페이지면 null)
+) {
+    // Slice -> 응답 변환 (마지막 행의 정렬 키로 다음 커서 생성)
+    public static PostSliceResponse from(Slice<PostListDTO> slice) {
+        List<PostListDTO> rows = slice.getContent();
+        String nextCursor = slice.hasNext() && !rows.isEmpty()
+                ? PostCursor.of(rows.get(rows.size() - 1)).encode()
+                : null;
+
+        return new PostSliceResponse(
+                rows.stream().map(PostListResponse::new).toList(),
+                slice.getSize(),
+                slice.hasNext(),
+                nextCursor
+        );
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
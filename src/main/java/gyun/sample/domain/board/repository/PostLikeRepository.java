@@ -2,12 +2,39 @@ package gyun.sample.domain.board.repository;
 
 import gyun.sample.domain.board.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByPostIdAndMemberId(Long postId, Long memberId);
     boolean existsByPostIdAndMemberId(Long postId, Long memberId);
-}
\ No newline at end of file
+
+    // [좋아요 색인] 회원이 좋아요한 게시글 ID 전체 (MemberLikedPostIndex 적재용, 엔티티 로딩 없음)
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.member.id = :memberId")
+    List<Long> findPostIdsByMemberId(@Param("memberId") Long memberId);
+
+    // [성능 개선] 엔티티 조회 없이 좋아요 기록 (이미 있으면 무시, UNIQUE(post_id, member_id) 기반 멱등 처리)
+    // 반환값: 1 = 새로 좋아요, 0 = 이미 좋아요 상태
+    @Modifying
+    @Query(value = "INSERT INTO post_like (post_id, member_id, created_at, modified_at, created_by, last_modified_by) " +
+            "VALUES (:postId, :memberId, now(), now(), :loginId, :loginId) " +
+            "ON CONFLICT (post_id, member_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("memberId") Long memberId, @Param("loginId") String loginId);
+
+    // UNIQUE 인덱스가 확인되기 전(ON CONFLICT 사용 불가)의 좋아요 기록: 호출 전에 존재 여부를 확인
+    @Modifying
+    @Query(value = "INSERT INTO post_like (post_id, member_id, created_at, modified_at, created_by, last_modified_by) " +
+            "VALUES (:postId, :memberId, now(), now(), :loginId, :loginId)", nativeQuery = true)
+    int insert(@Param("postId") Long postId, @Param("memberId") Long memberId, @Param("loginId") String loginId);
+
+    // 반환값: 1 = 좋아요 취소, 0 = 좋아요 상태가 아님
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId AND pl.member.id = :memberId")
+    int deleteByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
+}
@@ -1,31 +1,109 @@
 package gyun.sample.domain.board.repository;
 
 import gyun.sample.domain.board.entity.Post;
+import gyun.sample.domain.board.enums.PostType;
+import gyun.sample.domain.board.payload.dto.PostCounters;
+import gyun.sample.domain.board.payload.dto.PostDetailSnapshot;
+import gyun.sample.domain.board.payload.dto.PostSearchSource;
+import gyun.sample.domain.board.payload.dto.PostVersion;
+import gyun.sample.domain.sitemap.payload.dto.SitemapPostRow;
+import gyun.sample.domain.sitemap.payload.dto.SitemapShardSummary;
 import gyun.sample.global.enums.GlobalActiveEnums;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long>, QuerydslPredicateExecutor<Post>, PostRepositoryCustom {
 
-    // [수정] 기존 엔티티 전체 조회 대신, 사이트맵에 필요한 필드만 조회하는 쿼리 추가 (성능 최적화)
-    // Content(본문) 같은 무거운 데이터를 제외하여 메모리 사용량을 획기적으로 줄입니다.
-    // 반환 타입 Object[]: [0]=id, [1]=postType, [2]=createdAt, [3]=modifiedAt
-    @Query("SELECT p.id, p.postType, p.createdAt, p.modifiedAt FROM Post p WHERE p.active = :active ORDER BY p.createdAt DESC")
-    List<Object[]> findSitemapData(@Param("active") GlobalActiveEnums active, Pageable pageable);
+    // [사이트맵] 샤드(ID 구간)별 활성 게시글 수와 최근 수정 시각 (사이트맵 인덱스용)
+    @Query("SELECT new gyun.sample.domain.sitemap.payload.dto.SitemapShardSummary(" +
+            "p.id / " + SitemapShardSummary.SHARD_SIZE + ", COUNT(p), MAX(COALESCE(p.modifiedAt, p.createdAt))) " +
+            "FROM Post p WHERE p.active = :active " +
+            "GROUP BY p.id / " + SitemapShardSummary.SHARD_SIZE + " ORDER BY p.id / " + SitemapShardSummary.SHARD_SIZE)
+    List<SitemapShardSummary> findSitemapShards(@Param("active") GlobalActiveEnums active);
 
+    // [사이트맵] 샤드 하나의 게시글 URL 스트리밍 조회 (트랜잭션 안에서 소비, fetch size 단위로 커서 이동)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new gyun.sample.domain.sitemap.payload.dto.SitemapPostRow(p.id, p.postType, COALESCE(p.modifiedAt, p.createdAt)) " +
+            "FROM Post p WHERE p.active = :active AND p.id >= :fromId AND p.id < :toId ORDER BY p.id")
+    Stream<SitemapPostRow> streamSitemapRows(@Param("active") GlobalActiveEnums active,
+                                             @Param("fromId") Long fromId,
+                                             @Param("toId") Long toId);
+
+    // [상세 캐시] 변하지 않는 상세 데이터 + 작성자 닉네임 (조인 1회, 지연 로딩 없음)
+    @Query("SELECT new gyun.sample.domain.board.payload.dto.PostDetailSnapshot(" +
+            "p.id, p.postType, p.title, p.content, m.nickName, m.id, p.createdAt, p.modifiedAt, p.thumbnailUrl) " +
+            "FROM Post p JOIN p.author m WHERE p.id = :postId")
+    Optional<PostDetailSnapshot> findDetailSnapshot(@Param("postId") Long postId);
+
+    // [상세 캐시] 조회수/좋아요 수만 조회 (캐시된 상세 데이터와 별도로 주기적으로 갱신)
+    @Query("SELECT new gyun.sample.domain.board.payload.dto.PostCounters(p.viewCount, p.likeCount) FROM Post p WHERE p.id = :postId")
+    Optional<PostCounters> findCountersById(@Param("postId") Long postId);
+
+    // [조건부 요청] 상세 페이지 ETag/Last-Modified 계산용 (본문 제외, 기본 키 조회)
+    @Query("SELECT new gyun.sample.domain.board.payload.dto.PostVersion(p.id, p.postType, p.title, COALESCE(p.modifiedAt, p.createdAt)) " +
+            "FROM Post p WHERE p.id = :postId")
+    Optional<PostVersion> findVersionById(@Param("postId") Long postId);
+
+    // [조건부 요청] 게시판 목록 워터마크: 게시판 내 가장 최근 변경 시각 (idx_post_type_modified_at 역방향 스캔 1건)
+    @Query("SELECT MAX(p.modifiedAt) FROM Post p WHERE p.postType = :postType")
+    LocalDateTime findLastModifiedAt(@Param("postType") PostType postType);
+
+    // 좋아요 응답용 현재 좋아요 수 (엔티티/행 잠금 없이 단일 컬럼 조회)
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findLikeCountById(@Param("postId") Long postId);
+
+    // [백필] 파생 컬럼(excerpt, searchText)이 아직 계산되지 않은 게시글을 ID 순으로 일정 개수씩 조회 (Keyset 방식)
+    // 검색 텍스트 계산에 작성자 닉네임이 필요하므로 작성자를 함께 조회
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id > :lastId AND (p.excerpt IS NULL OR p.searchText IS NULL) ORDER BY p.id ASC")
+    List<Post> findBackfillTargets(@Param("lastId") Long lastId, Pageable pageable);
+
+    // [검색 텍스트 갱신] 작성자 닉네임 변경 시 해당 작성자의 게시글을 ID 순으로 일정 개수씩 조회 (Keyset 방식)
+    List<Post> findTop200ByAuthorIdAndIdGreaterThanOrderByIdAsc(Long authorId, Long lastId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.thumbnailUrl = :thumbnailUrl, p.hasImage = :hasImage, p.excerpt = :excerpt WHERE p.id = :postId")
+    void updateContentSummary(@Param("postId") Long postId,
+                              @Param("thumbnailUrl") String thumbnailUrl,
+                              @Param("hasImage") boolean hasImage,
+                              @Param("excerpt") String excerpt);
+
+    // Auditing(modifiedAt) 갱신 없이 검색 텍스트만 변경 (백필/닉네임 변경 반영용)
     @Modifying
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
-    void increaseViewCount(Long postId);
+    @Query("UPDATE Post p SET p.searchText = :searchText WHERE p.id = :postId")
+    void updateSearchText(@Param("postId") Long postId, @Param("searchText") String searchText);
+
+    // [검색 색인] 메모리 검색 색인 구축용 전체 스트리밍 조회 (트랜잭션 안에서 소비, fetch size 단위로 커서 이동)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new gyun.sample.domain.board.payload.dto.PostSearchSource(p.id, p.postType, p.active, p.title, m.nickName, p.content, p.modifiedAt) " +
+            "FROM Post p JOIN p.author m WHERE p.active = :active")
+    Stream<PostSearchSource> streamSearchSources(@Param("active") GlobalActiveEnums active);
+
+    @Query("SELECT new gyun.sample.domain.board.payload.dto.PostSearchSource(p.id, p.postType, p.active, p.title, m.nickName, p.content, p.modifiedAt) " +
+            "FROM Post p JOIN p.author m WHERE p.id = :postId")
+    Optional<PostSearchSource> findSearchSource(@Param("postId") Long postId);
+
+    @Query("SELECT new gyun.sample.domain.board.payload.dto.PostSearchSource(p.id, p.postType, p.active, p.title, m.nickName, p.content, p.modifiedAt) " +
+            "FROM Post p JOIN p.author m WHERE m.id = :authorId")
+    List<PostSearchSource> findSearchSourcesByAuthorId(@Param("authorId") Long authorId);
 
     // 기존 findByActive는 다른 로직에서 쓰지 않는다면 삭제하거나 유지해도 됩니다.
-    // 여기서는 호환성을 위해 남겨두되, SitemapController에서는 위 메서드를 쓸 것입니다.
+    // 여기서는 호환성을 위해 남겨두되, 사이트맵은 위 사이트맵 전용 메서드를 사용합니다.
     List<Post> findByActive(GlobalActiveEnums active, Pageable pageable);
 }
\ No newline at end of file
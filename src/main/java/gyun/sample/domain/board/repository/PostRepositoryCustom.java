@@ -2,8 +2,11 @@ package gyun.sample.domain.board.repository;
 
 import com.querydsl.core.types.Predicate;
 import gyun.sample.domain.board.entity.Post;
+import gyun.sample.domain.board.payload.dto.PostCursor;
+import gyun.sample.domain.board.payload.dto.PostListDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface PostRepositoryCustom {
     /**
@@ -11,4 +14,20 @@ public interface PostRepositoryCustom {
      * 이를 통해 N+1 문제를 방지합니다.
      */
     Page<Post> findAllWithAuthor(Predicate predicate, Pageable pageable);
+
+    /**
+     * [성능 개선] 게시글 목록 전용 Projection 조회
+     * 본문(content, TEXT) 컬럼을 SELECT 하지 않고 목록에 필요한 컬럼만 조회합니다.
+     */
+    Page<PostListDTO> findAllForList(Predicate predicate, Pageable pageable);
+
+    /**
+     * [성능 개선] Keyset(Seek) 방식 게시글 목록 조회
+     * (isPinned, createdAt, id) DESC 기준으로 커서 이후 행만 조회하므로 깊은 페이지도 일정한 속도를 보장하며,
+     * COUNT 쿼리를 실행하지 않습니다.
+     *
+     * @param cursor 직전 페이지의 마지막 행 위치 (null이면 첫 페이지)
+     * @param size   페이지 크기
+     */
+    Slice<PostListDTO> findSliceForList(Predicate predicate, PostCursor cursor, int size);
 }
\ No newline at end of file
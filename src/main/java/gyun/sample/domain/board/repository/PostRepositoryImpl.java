@@ -3,12 +3,22 @@ package gyun.sample.domain.board.repository;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import gyun.sample.domain.board.entity.Post;
+import gyun.sample.domain.board.payload.dto.PostCursor;
+import gyun.sample.domain.board.payload.dto.PostListDTO;
+import gyun.sample.global.cache.CountRegion;
+import gyun.sample.global.cache.ListCountCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 
@@ -22,6 +32,7 @@ import static gyun.sample.domain.member.entity.QMember.member;
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ListCountCache listCountCache;
 
     @Override
     public Page<Post> findAllWithAuthor(Predicate predicate, Pageable pageable) {
@@ -39,7 +50,87 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .from(post)
                 .where(predicate);
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        // [성능 개선] 동일 검색 조건의 COUNT 결과를 캐시하여 재사용 (쓰기 이벤트 시 무효화)
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> listCountCache.getCount(CountRegion.POST, predicate, countQuery::fetchOne));
+    }
+
+    @Override
+    public Page<PostListDTO> findAllForList(Predicate predicate, Pageable pageable) {
+        List<PostListDTO> content = queryFactory
+                .select(postListProjection())
+                .from(post)
+                .leftJoin(post.author, member) // Projection이므로 fetchJoin 없이 필요한 컬럼만 조인
+                .where(predicate)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(predicate);
+
+        // [성능 개선] 동일 검색 조건의 COUNT 결과를 캐시하여 재사용 (쓰기 이벤트 시 무효화)
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> listCountCache.getCount(CountRegion.POST, predicate, countQuery::fetchOne));
+    }
+
+    @Override
+    public Slice<PostListDTO> findSliceForList(Predicate predicate, PostCursor cursor, int size) {
+        // size + 1개를 조회하여 다음 페이지 존재 여부를 판단 (COUNT 쿼리 없음)
+        List<PostListDTO> content = queryFactory
+                .select(postListProjection())
+                .from(post)
+                .leftJoin(post.author, member)
+                .where(predicate, seekAfter(cursor))
+                .orderBy(post.isPinned.desc(), post.createdAt.desc(), post.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private ConstructorExpression<PostListDTO> postListProjection() {
+        return Projections.constructor(PostListDTO.class,
+                post.id,
+                post.title,
+                member.nickName,
+                post.viewCount,
+                post.likeCount,
+                post.isPinned,
+                post.active,
+                post.postType,
+                post.thumbnailUrl,
+                post.hasImage,
+                post.excerpt,
+                post.createdAt
+        );
+    }
+
+    /**
+     * (isPinned, createdAt, id) DESC 정렬에서 커서 다음 행부터 조회하는 Seek 조건
+     * isPinned < c.isPinned OR (isPinned = c.isPinned AND (createdAt < c.createdAt OR (createdAt = c.createdAt AND id < c.id)))
+     */
+    private BooleanExpression seekAfter(PostCursor cursor) {
+        if (cursor == null) {
+            return null; // 첫 페이지
+        }
+
+        BooleanExpression afterInSameGroup = post.createdAt.lt(cursor.createdAt())
+                .or(post.createdAt.eq(cursor.createdAt()).and(post.id.lt(cursor.id())));
+
+        if (cursor.isPinned()) {
+            // 공지글 구간: 남은 공지글 + 일반글 전체
+            return post.isPinned.isFalse().or(post.isPinned.isTrue().and(afterInSameGroup));
+        }
+        // 일반글 구간: 공지글은 이미 모두 지나왔음
+        return post.isPinned.isFalse().and(afterInSameGroup);
     }
 
     // Sort 객체를 QueryDSL OrderSpecifier로 변환
@@ -2,13 +2,22 @@ package gyun.sample.domain.board.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import gyun.sample.domain.board.enums.PostType;
 import gyun.sample.domain.board.payload.request.PostListRequest;
+import gyun.sample.domain.board.search.PostSearchIndex;
 import gyun.sample.global.enums.GlobalActiveEnums;
 import gyun.sample.global.enums.GlobalFilterEnums;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
 import static gyun.sample.domain.board.entity.QPost.post;
+import static gyun.sample.domain.member.entity.QMember.member;
 
 public class PostSpecification {
 
@@ -19,14 +28,22 @@ public class PostSpecification {
      * @param fixedPostType 컨트롤러에서 고정된 게시판 타입 (null이면 request의 searchPostType 사용 - 관리자용)
      */
     public static Predicate searchPost(PostListRequest request, PostType fixedPostType) {
+        return searchPost(request, fixedPostType, null);
+    }
+
+    /**
+     * 게시글 검색 조건 생성 (검색 색인 사용)
+     *
+     * @param searchIndex 검색어를 게시글 ID 목록으로 변환할 색인 (null 이거나 색인이 답할 수 없으면 DB 검색 조건 사용)
+     */
+    public static Predicate searchPost(PostListRequest request, PostType fixedPostType, PostSearchIndex searchIndex) {
         BooleanBuilder builder = new BooleanBuilder();
 
         // 1. 게시판 타입 필터링
         // fixedPostType이 있으면 그것을 강제(일반 사용자용), 없으면 request의 조건 사용(관리자 전체 조회용)
-        if (fixedPostType != null) {
-            builder.and(post.postType.eq(fixedPostType));
-        } else if (request.searchPostType() != null) {
-            builder.and(post.postType.eq(request.searchPostType()));
+        PostType postType = fixedPostType != null ? fixedPostType : request.searchPostType();
+        if (postType != null) {
+            builder.and(post.postType.eq(postType));
         }
 
         // 2. 활성 상태 필터링
@@ -36,23 +53,60 @@ public class PostSpecification {
         }
 
         // 3. 검색어 처리
+        // [성능 개선] 전체 테이블 스캔이 발생하던 containsIgnoreCase(ILIKE) 대신 GIN 인덱스를 탈 수 있는 조건으로 변환
         if (StringUtils.hasText(request.searchWord())) {
-            String keyword = request.searchWord();
+            String keyword = request.searchWord().trim();
             GlobalFilterEnums filter = request.filter() != null ? request.filter() : GlobalFilterEnums.ALL;
 
+            // [성능 개선] 메모리 검색 색인이 있으면 검색어 조건을 ID 목록(IN)으로 대체
+            // 색인이 게시판 타입/활성 상태까지 거른 전체 결과를 반환하므로 IN 목록이 다른 게시판/삭제 글로 채워지지 않음
+            Optional<List<Long>> indexedIds = searchIndex != null
+                    ? searchIndex.search(keyword, filter, postType, request.active())
+                    : Optional.empty();
+            if (indexedIds.isPresent()) {
+                builder.and(post.id.in(indexedIds.get()));
+                return builder;
+            }
+
             switch (filter) {
+                // lower(title) LIKE → idx_post_title_trgm
                 case TITLE -> builder.and(post.title.containsIgnoreCase(keyword));
+                // 본문만 검색하는 경우는 searchText로 대체할 수 없어 기존 방식 유지 (사용 빈도 낮음)
                 case CONTENT -> builder.and(post.content.containsIgnoreCase(keyword));
+                // lower(nick_name) LIKE → idx_member_nick_name_trgm
                 case NICK_NAME -> builder.and(post.author.nickName.containsIgnoreCase(keyword));
-                // ALL: 제목 + 내용 + 작성자
-                default -> builder.and(
-                        post.title.containsIgnoreCase(keyword)
-                                .or(post.content.containsIgnoreCase(keyword))
-                                .or(post.author.nickName.containsIgnoreCase(keyword))
-                );
+                // ALL: 제목 + 작성자 + 내용 (회원 조인 없이 searchText 단일 컬럼 검색)
+                // 백필 전(searchText 없음) 게시글도 검색되도록 기존 조건을 함께 적용
+                default -> builder.and(searchTextMatches(keyword).or(legacyMatches(keyword)));
             }
         }
 
         return builder;
     }
-}
\ No newline at end of file
+
+    /**
+     * 통합 검색 조건: 전문 검색(tsvector GIN) OR 부분 문자열 검색(Trigram GIN)
+     * - fts_match: 공백으로 구분된 단어가 모두 포함된 글 (순서/인접 여부 무관)
+     * - LIKE '%키워드%': 조사가 붙은 한글 어절('맛집을') 등 단어 단위로 일치하지 않는 부분 문자열 폴백
+     * 두 조건 모두 인덱스를 사용하므로 PostgreSQL이 BitmapOr로 결합합니다.
+     */
+    private static BooleanExpression searchTextMatches(String keyword) {
+        String normalized = keyword.toLowerCase(Locale.ROOT);
+        BooleanExpression fullText = Expressions.booleanTemplate("function('fts_match', {0}, {1}) = true", post.searchText, normalized);
+        return fullText.or(post.searchText.contains(normalized));
+    }
+
+    /**
+     * searchText가 아직 계산되지 않은 게시글(PostContentBackfillService 완료 전/실패)용 기존 검색 조건
+     * - 부분 인덱스(idx_post_search_text_null, search_text IS NULL)로 대상 행만 찾으므로 백필이 끝나면 비용이 거의 없습니다.
+     * - 작성자 닉네임은 EXISTS 서브쿼리로 확인하여 전체 검색에 회원 조인이 추가되지 않도록 합니다.
+     */
+    private static BooleanExpression legacyMatches(String keyword) {
+        return post.searchText.isNull().and(
+                post.title.containsIgnoreCase(keyword)
+                        .or(post.content.containsIgnoreCase(keyword))
+                        .or(JPAExpressions.selectOne().from(member)
+                                .where(member.id.eq(post.author.id), member.nickName.containsIgnoreCase(keyword))
+                                .exists()));
+    }
+}
@@ -0,0 +1,23 @@
+package gyun.sample.domain.board.search;
+
+import gyun.sample.domain.board.enums.PostType;
+import gyun.sample.global.enums.GlobalActiveEnums;
+import gyun.sample.global.enums.GlobalFilterEnums;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 기본 검색 색인: 별도 색인 없이 항상 DB 검색 조건(tsvector/Trigram GIN)을 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.board.search.engine", havingValue = "database", matchIfMissing = true)
+public class DatabasePostSearchIndex implements PostSearchIndex {
+
+    @Override
+    public Optional<List<Long>> search(String keyword, GlobalFilterEnums filter, PostType postType, GlobalActiveEnums active) {
+        return Optional.empty();
+    }
+}
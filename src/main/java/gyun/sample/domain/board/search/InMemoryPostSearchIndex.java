@@ -0,0 +1,280 @@
+package gyun.sample.domain.board.search;
+
+import gyun.sample.domain.board.enums.PostType;
+import gyun.sample.domain.board.payload.dto.PostContentSummary;
+import gyun.sample.domain.board.payload.dto.PostSearchSource;
+import gyun.sample.domain.board.repository.PostRepository;
+import gyun.sample.domain.log.enums.LogType;
+import gyun.sample.domain.log.event.MemberActivityEvent;
+import gyun.sample.domain.log.event.PostActivityEvent;
+import gyun.sample.global.enums.GlobalActiveEnums;
+import gyun.sample.global.enums.GlobalFilterEnums;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 애플리케이션 메모리 n-gram 역색인 (app.board.search.engine=memory)
+ * - 필드(제목/닉네임/본문)별로 Bi-gram 토큰 -> 게시글 ID 집합을 유지하고,
+ * 후보 ID는 정규화된 원문으로 부분 문자열 일치를 다시 확인하여 기존 containsIgnoreCase와 같은 결과를 반환합니다.
+ * - 기동 시 활성 게시글 전체를 스트리밍으로 읽어 구축하고, 이후에는 커밋된 PostActivityEvent로 증분 갱신합니다.
+ * - 활성 게시글만 보관하며(삭제/비활성화 시 제거), 게시판 타입 조건은 색인 안에서 적용합니다.
+ * 결과가 max-hits를 넘으면 잘라서 반환하지 않고 DB 검색으로 처리합니다.
+ * - 노드마다 별도의 색인을 가지므로 다중 노드 환경에서는 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.board.search.engine", havingValue = "memory")
+public class InMemoryPostSearchIndex implements PostSearchIndex {
+
+    private static final Set<LogType> REINDEX_TYPES = EnumSet.of(LogType.POST_CREATE, LogType.POST_UPDATE, LogType.POST_DELETE);
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // 필드별 역색인: Bi-gram 토큰 -> 게시글 ID 집합
+    private final Map<Field, Map<String, Set<Long>>> postings = new EnumMap<>(Field.class);
+    // 정방향 문서: 갱신 시 기존 토큰 제거 및 후보 검증용
+    private final Map<Long, IndexedPost> documents = new HashMap<>();
+    // 기동 시 구축 중 삭제된 게시글: 스트리밍 중인 오래된 스냅샷이 다시 색인하지 않도록 삭제 시점 기록
+    private final Map<Long, LocalDateTime> removedDuringBuild = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready = false;
+
+    // IN 조건 파라미터 수 상한 (초과하면 DB 검색으로 처리)
+    @Value("${app.board.search.memory.max-hits:1000}")
+    private int maxHits;
+
+    public InMemoryPostSearchIndex(PostRepository postRepository, PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    @Override
+    public Optional<List<Long>> search(String keyword, GlobalFilterEnums filter, PostType postType, GlobalActiveEnums active) {
+        // 색인은 활성 게시글만 보관하므로 비활성/전체 상태 조회(관리자)는 DB 검색으로 처리
+        if (!ready || active != GlobalActiveEnums.ACTIVE) {
+            return Optional.empty();
+        }
+        Set<Field> fields = switch (filter) {
+            case TITLE -> EnumSet.of(Field.TITLE);
+            case CONTENT -> EnumSet.of(Field.CONTENT);
+            case NICK_NAME -> EnumSet.noneOf(Field.class);
+            default -> EnumSet.allOf(Field.class);
+        };
+        String query = NGramTokenizer.normalize(keyword);
+        Set<String> tokens = NGramTokenizer.bigrams(query);
+        // 닉네임 단독 검색(회원 인덱스 사용)과 1글자 검색어(후보를 좁힐 수 없음)는 DB 검색으로 처리
+        if (fields.isEmpty() || tokens.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 최신 글(ID 내림차순) 우선
+        TreeSet<Long> matched = new TreeSet<>(Comparator.reverseOrder());
+        lock.readLock().lock();
+        try {
+            for (Field field : fields) {
+                for (Long id : candidates(field, tokens)) {
+                    IndexedPost doc = documents.get(id);
+                    if (doc != null && (postType == null || doc.postType() == postType) && doc.text(field).contains(query)) {
+                        matched.add(id);
+                    }
+                    // 상한 초과 시 일부만 반환하면 결과 누락/전체 건수 오류가 생기므로 DB 검색으로 처리
+                    if (matched.size() > maxHits) {
+                        return Optional.empty();
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Optional.of(List.copyOf(matched));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        long start = System.currentTimeMillis();
+        try {
+            // 스트리밍 조회는 트랜잭션 안에서만 커서가 유지됨
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<PostSearchSource> sources = postRepository.streamSearchSources(GlobalActiveEnums.ACTIVE)) {
+                    sources.forEach(this::apply);
+                }
+            });
+            markReady();
+            log.info("[Post Search] 메모리 검색 색인 구축 완료: {}건 ({}ms)", size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("[Post Search] 메모리 검색 색인 구축 실패, DB 검색으로 동작합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    // 게시글 작성/수정/삭제 커밋 이후 해당 글만 다시 색인 (비활성화/완전 삭제된 글은 제거)
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        if (event.postId() != null && REINDEX_TYPES.contains(event.logType())) {
+            postRepository.findSearchSource(event.postId())
+                    .ifPresentOrElse(this::apply, () -> remove(event.postId(), LocalDateTime.MAX));
+        }
+    }
+
+    // 작성자 닉네임 변경(회원 정보 수정/탈퇴) 시 해당 작성자의 글을 다시 색인
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberActivity(MemberActivityEvent event) {
+        if (event.memberId() != null && (event.logType() == LogType.UPDATE || event.logType() == LogType.INACTIVE)) {
+            postRepository.findSearchSourcesByAuthorId(event.memberId()).forEach(this::apply);
+        }
+    }
+
+    private void apply(PostSearchSource source) {
+        if (source.active() == GlobalActiveEnums.ACTIVE) {
+            upsert(source);
+        } else {
+            remove(source.id(), source.modifiedAt());
+        }
+    }
+
+    private void upsert(PostSearchSource source) {
+        IndexedPost doc = IndexedPost.from(source);
+        lock.writeLock().lock();
+        try {
+            IndexedPost old = documents.get(source.id());
+            // 기동 시 스트리밍 중 이벤트로 먼저 반영된 최신 문서(또는 삭제)를 오래된 스냅샷으로 덮어쓰지 않음
+            if (old != null && old.isNewerThan(doc)) {
+                return;
+            }
+            LocalDateTime removedAt = removedDuringBuild.get(source.id());
+            if (removedAt != null && (doc.modifiedAt() == null || !doc.modifiedAt().isAfter(removedAt))) {
+                return;
+            }
+            if (old != null) {
+                unindex(source.id(), old);
+            }
+            documents.put(source.id(), doc);
+            for (Field field : Field.values()) {
+                Map<String, Set<Long>> fieldPostings = postings.get(field);
+                for (String token : NGramTokenizer.bigrams(doc.text(field))) {
+                    fieldPostings.computeIfAbsent(token, key -> new HashSet<>()).add(source.id());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long id, LocalDateTime removedAt) {
+        lock.writeLock().lock();
+        try {
+            IndexedPost old = documents.remove(id);
+            if (old != null) {
+                unindex(id, old);
+            }
+            if (!ready) {
+                removedDuringBuild.merge(id, removedAt != null ? removedAt : LocalDateTime.MAX,
+                        (a, b) -> a.isAfter(b) ? a : b);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markReady() {
+        lock.writeLock().lock();
+        try {
+            ready = true;
+            removedDuringBuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unindex(Long id, IndexedPost doc) {
+        for (Field field : Field.values()) {
+            Map<String, Set<Long>> fieldPostings = postings.get(field);
+            for (String token : NGramTokenizer.bigrams(doc.text(field))) {
+                Set<Long> ids = fieldPostings.get(token);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    fieldPostings.remove(token);
+                }
+            }
+        }
+    }
+
+    // 모든 토큰을 포함하는 후보 ID (가장 짧은 포스팅부터 교집합)
+    private Set<Long> candidates(Field field, Set<String> tokens) {
+        Map<String, Set<Long>> fieldPostings = postings.get(field);
+        List<Set<Long>> lists = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Set<Long> ids = fieldPostings.get(token);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private enum Field {
+        TITLE, NICK_NAME, CONTENT
+    }
+
+    // 정규화된 필드 원문 (본문은 HTML 제거 평문)
+    private record IndexedPost(PostType postType, String title, String nickName, String content, LocalDateTime modifiedAt) {
+
+        static IndexedPost from(PostSearchSource source) {
+            return new IndexedPost(
+                    source.postType(),
+                    NGramTokenizer.normalize(source.title()),
+                    NGramTokenizer.normalize(source.nickName()),
+                    NGramTokenizer.normalize(PostContentSummary.toPlainText(source.content())),
+                    source.modifiedAt()
+            );
+        }
+
+        String text(Field field) {
+            return switch (field) {
+                case TITLE -> title;
+                case NICK_NAME -> nickName;
+                case CONTENT -> content;
+            };
+        }
+
+        boolean isNewerThan(IndexedPost other) {
+            return modifiedAt != null && other.modifiedAt != null && modifiedAt.isAfter(other.modifiedAt);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package gyun.sample.domain.board.search;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 한국어 친화적 Bi-gram 토크나이저
+ * - 형태소 분석 없이 어절(공백 기준) 내부의 연속된 2글자를 토큰으로 사용하므로
+ * 조사가 붙은 어절('맛집을')에서도 부분 문자열('맛집')을 찾을 수 있습니다.
+ * - 코드 포인트 단위로 자르므로 이모지 등 서로게이트 쌍이 깨지지 않습니다.
+ */
+public final class NGramTokenizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 색인/검색어 공통 정규화 (NFKC, 소문자, 공백 정리)
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * 정규화된 텍스트의 어절별 Bi-gram 집합 (1글자 어절은 토큰을 만들지 않음)
+     */
+    public static Set<String> bigrams(String normalized) {
+        Set<String> tokens = new HashSet<>();
+        if (normalized.isEmpty()) {
+            return tokens;
+        }
+        for (String word : normalized.split(" ")) {
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+}
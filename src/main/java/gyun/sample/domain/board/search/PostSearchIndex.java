@@ -0,0 +1,26 @@
+package gyun.sample.domain.board.search;
+
+import gyun.sample.domain.board.enums.PostType;
+import gyun.sample.global.enums.GlobalActiveEnums;
+import gyun.sample.global.enums.GlobalFilterEnums;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 검색 색인 (app.board.search.engine 으로 구현체 선택)
+ * - database(기본): DB 검색 조건(PostSpecification, GIN 인덱스)에 위임
+ * - memory: 애플리케이션 메모리의 n-gram 역색인에서 ID 목록을 조회 (단일 노드 전용)
+ */
+public interface PostSearchIndex {
+
+    /**
+     * 검색어와 일치하는 게시글 ID를 최신순으로 반환합니다.
+     * 게시판 타입/활성 상태 조건까지 적용한 전체 결과를 반환하며, 일부만 잘라서 반환하지 않습니다.
+     *
+     * @param postType 게시판 타입 (null이면 전체)
+     * @param active   활성 상태 조건
+     * @return 색인이 답할 수 없는 경우(미지원 필터/상태, 색인 구축 중, 1글자 검색어, 결과가 상한 초과 등) empty → DB 검색 조건 사용
+     */
+    Optional<List<Long>> search(String keyword, GlobalFilterEnums filter, PostType postType, GlobalActiveEnums active);
+}
@@ -0,0 +1,92 @@
+package gyun.sample.domain.board.service.common;
+
+import gyun.sample.domain.account.payload.dto.CurrentAccountDTO;
+import gyun.sample.domain.board.enums.PostType;
+import gyun.sample.domain.board.payload.dto.PostVersion;
+import gyun.sample.domain.board.repository.PostRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * 게시판 페이지 조건부 요청(ETag / Last-Modified → 304) 처리
+ * [성능 개선] 재방문 요청은 인덱스 조회 한 번으로 304를 응답하고, 본문 조회와 렌더링을 생략합니다.
+ * - 상세: 게시글 기본 키 조회로 얻은 수정 시각 / 목록: 게시판별 최근 수정 시각(워터마크)
+ * - 조회수/좋아요 수처럼 수정 시각을 바꾸지 않는 값이 무기한 이전 값으로 남지 않도록,
+ * 검증값은 refresh-seconds 주기 경계에서도 갱신됩니다. (Last-Modified = max(수정 시각, 주기 시작 시각))
+ * - 비로그인 요청에만 적용합니다. 로그인 회원 화면은 좋아요 여부 등 사용자별 내용이 있어 검증값을 발급하지 않습니다.
+ * - 플래시 메시지가 있는 요청(작성/삭제 후 이동)은 메시지를 표시해야 하므로 제외합니다.
+ * - 응답에 CSRF 토큰(세션별)이 포함되므로 공유 캐시(CDN)에는 저장하지 않도록 private으로 지정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardConditionalGet {
+
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final PostRepository postRepository;
+
+    @Value("${app.board.conditional-get.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.board.conditional-get.refresh-seconds:300}")
+    private long refreshSeconds;
+
+    public boolean isApplicable(CurrentAccountDTO account, HttpServletRequest request) {
+        return enabled
+                && account.id() == 0L
+                && CollectionUtils.isEmpty(RequestContextUtils.getInputFlashMap(request));
+    }
+
+    /**
+     * 목록 검증값이 일치하면 true (304 응답 처리 완료)
+     */
+    public boolean checkListNotModified(PostType postType, HttpServletRequest request, HttpServletResponse response) {
+        LocalDateTime watermark = postRepository.findLastModifiedAt(postType);
+        return checkNotModified("list-" + postType.name().toLowerCase(), watermark, request, response);
+    }
+
+    /**
+     * 게시글 변경 정보 조회 (없거나 다른 게시판의 글이면 empty: 일반 처리 경로에서 오류 응답)
+     */
+    public Optional<PostVersion> findVersion(PostType postType, Long postId) {
+        return postRepository.findVersionById(postId)
+                .filter(version -> version.postType() == postType);
+    }
+
+    /**
+     * 상세 검증값이 일치하면 true (304 응답 처리 완료)
+     */
+    public boolean checkDetailNotModified(PostVersion version, HttpServletRequest request, HttpServletResponse response) {
+        return checkNotModified("post-" + version.id(), version.modifiedAt(), request, response);
+    }
+
+    private boolean checkNotModified(String resource, LocalDateTime modifiedAt,
+                                     HttpServletRequest request, HttpServletResponse response) {
+        long lastModified = effectiveLastModified(modifiedAt);
+        String etag = "W/\"" + resource + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        return new ServletWebRequest(request, response).checkNotModified(etag, lastModified);
+    }
+
+    // 수정 시각과 현재 갱신 주기의 시작 시각 중 늦은 값 (HTTP 날짜는 초 단위이므로 초로 절삭)
+    private long effectiveLastModified(LocalDateTime modifiedAt) {
+        long now = System.currentTimeMillis();
+        long period = Math.max(1, refreshSeconds) * 1000;
+        long periodStart = now - now % period;
+        long modified = modifiedAt != null ? modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+        long lastModified = Math.max(modified, periodStart);
+        return lastModified - lastModified % 1000;
+    }
+}
@@ -0,0 +1,163 @@
+package gyun.sample.domain.board.service.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gyun.sample.domain.board.enums.PostType;
+import gyun.sample.domain.board.payload.request.PostListRequest;
+import gyun.sample.domain.board.payload.response.PostDetailResponse;
+import gyun.sample.domain.log.enums.LogType;
+import gyun.sample.domain.log.event.PostActivityEvent;
+import gyun.sample.global.cache.RenderedFragment;
+import gyun.sample.global.enums.GlobalActiveEnums;
+import gyun.sample.global.enums.GlobalFilterEnums;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 목록/상세 렌더링 결과(HTML 조각) 캐시
+ * [성능 개선] 대부분의 요청이 비로그인 조회이므로, 캐시 적중 시 목록/상세 조회 쿼리와 본문 렌더링을 모두 생략합니다.
+ * - 목록 키: (게시판, 페이지/커서, 크기, 필터, 목록 버전). 검색어가 있거나 관리자용 필터가 있는 요청은 캐시하지 않습니다.
+ *   게시글별 좋아요 표시는 조각의 구멍으로 남겨 두고 목록 게시글 ID와 함께 저장하여, 로그인 사용자도 같은 조각을 사용합니다.
+ * - 상세 키: (게시판, 게시글 ID). 비로그인 기준 데이터(PostDetailResponse)와 본문 조각을 함께 저장하며,
+ * 좋아요 여부/수정·삭제 버튼 등 사용자별 영역은 조각의 구멍(RenderedFragment.HOLE)에 요청마다 렌더링합니다.
+ * - 무효화: 게시글 작성/수정/삭제/공지 변경 이벤트(커밋 이후). 목록은 버전 증가로 이전 키 전체를, 상세는 해당 게시글만 무효화합니다.
+ * - 조회수/좋아요 수는 캐시 유지 시간(ttl-seconds) 동안 이전 값이 보일 수 있습니다.
+ */
+@Component
+public class BoardFragmentCache {
+
+    private static final Set<LogType> POST_WRITE_TYPES = EnumSet.of(LogType.POST_CREATE, LogType.POST_UPDATE, LogType.POST_DELETE);
+
+    private final boolean enabled;
+    private final Cache<ListKey, ListPage> lists;
+    private final Cache<DetailKey, Detail> details;
+
+    // 목록 버전: 키에 포함되므로 증가 즉시 이전 렌더링 결과는 조회되지 않음
+    private final AtomicLong listVersion = new AtomicLong();
+    // 상세 무효화 세대: 렌더링 도중 무효화가 일어나면 오래된 결과를 저장하지 않기 위함
+    private final AtomicLong detailGeneration = new AtomicLong();
+
+    private final Counter listHits;
+    private final Counter listMisses;
+    private final Counter detailHits;
+    private final Counter detailMisses;
+
+    public BoardFragmentCache(@Value("${app.board.fragment-cache.enabled:true}") boolean enabled,
+                              @Value("${app.board.fragment-cache.ttl-seconds:30}") long ttlSeconds,
+                              @Value("${app.board.fragment-cache.list-max-entries:1000}") long listMaxEntries,
+                              @Value("${app.board.fragment-cache.detail-max-entries:5000}") long detailMaxEntries,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.lists = Caffeine.newBuilder()
+                .maximumSize(listMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.details = Caffeine.newBuilder()
+                .maximumSize(detailMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.listHits = counter(meterRegistry, "list", "hit");
+        this.listMisses = counter(meterRegistry, "list", "miss");
+        this.detailHits = counter(meterRegistry, "detail", "hit");
+        this.detailMisses = counter(meterRegistry, "detail", "miss");
+    }
+
+    /**
+     * 목록 조각을 반환하고, 없으면 renderer로 렌더링하여 캐시합니다. (캐시 대상이 아닌 요청은 매번 렌더링)
+     * renderer가 만드는 조각은 사용자별 데이터를 포함하지 않아야 합니다. (좋아요 표시는 게시글마다 구멍으로 출력)
+     */
+    public ListPage getList(PostType postType, PostListRequest request, Supplier<ListPage> renderer) {
+        if (!enabled || !isCacheable(request)) {
+            return renderer.get();
+        }
+        ListKey key = new ListKey(postType, request.page(), request.size(), request.cursor(), request.filter(), listVersion.get());
+        ListPage cached = lists.getIfPresent(key);
+        if (cached != null) {
+            listHits.increment();
+            return cached;
+        }
+        listMisses.increment();
+        ListPage rendered = renderer.get();
+        lists.put(key, rendered);
+        return rendered;
+    }
+
+    /**
+     * 상세 데이터 + 본문 조각을 반환하고, 없으면 loader로 조회/렌더링하여 캐시합니다.
+     * loader가 만드는 데이터는 비로그인 기준(좋아요 여부 false)이어야 합니다.
+     */
+    public Detail getDetail(PostType postType, Long postId, Supplier<Detail> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        DetailKey key = new DetailKey(postType, postId);
+        Detail cached = details.getIfPresent(key);
+        if (cached != null) {
+            detailHits.increment();
+            return cached;
+        }
+        detailMisses.increment();
+        long generation = detailGeneration.get();
+        Detail loaded = loader.get();
+        if (detailGeneration.get() == generation) {
+            details.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        if (!POST_WRITE_TYPES.contains(event.logType())) {
+            return;
+        }
+        listVersion.incrementAndGet();
+        lists.invalidateAll();
+        detailGeneration.incrementAndGet();
+        if (event.postId() != null) {
+            // 이벤트에 게시판 타입이 없으므로 게시판별 키를 모두 제거
+            for (PostType postType : PostType.values()) {
+                details.invalidate(new DetailKey(postType, event.postId()));
+            }
+        }
+    }
+
+    // 검색 결과는 조합이 많아 적중률이 낮으므로 기본 목록(검색어 없음, 활성 게시글)만 캐시
+    private static boolean isCacheable(PostListRequest request) {
+        return request.searchWord().isBlank()
+                && request.active() == GlobalActiveEnums.ACTIVE
+                && request.searchPostType() == null
+                && (request.cursor() == null || request.cursor().length() <= 128);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String region, String result) {
+        return Counter.builder("board.fragment.cache")
+                .tag("region", region)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public record Detail(PostDetailResponse post, RenderedFragment fragment) {
+    }
+
+    /**
+     * 목록 조각 + 조각에 출력된 게시글 ID (순서대로 구멍 i가 postIds[i]의 좋아요 표시 자리)
+     */
+    public record ListPage(List<Long> postIds, RenderedFragment fragment) {
+    }
+
+    private record ListKey(PostType postType, int page, int size, String cursor, GlobalFilterEnums filter, long version) {
+    }
+
+    private record DetailKey(PostType postType, Long postId) {
+    }
+}
@@ -0,0 +1,152 @@
+package gyun.sample.domain.board.service.common;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gyun.sample.domain.board.repository.PostLikeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 회원별 좋아요 게시글 ID 집합 (Roaring Bitmap)
+ * [성능 개선] 상세/목록의 좋아요 여부를 게시글마다 post_like 조회 없이 메모리에서 확인합니다.
+ * - 회원의 첫 확인 시 좋아요한 게시글 ID 전체를 한 번에 적재합니다. (동시 요청은 조회 1회로 병합)
+ * - 좋아요/취소(AbstractWritePostService.likePost)가 커밋되면 적재된 집합에 바로 반영합니다.
+ * 집합은 변경 시 복사본을 만들어 교체(copy-on-write)하므로 읽기는 잠금 없이 수행됩니다.
+ * - 메모리 상한: 집합의 직렬화 크기 합계(max-bytes) 기준으로 오래 사용하지 않은 회원부터 제거하고, 다시 필요하면 재적재합니다.
+ * - 다른 노드에서 일어난 좋아요 변경은 ttl-seconds 이내에 반영됩니다.
+ */
+@Component
+public class MemberLikedPostIndex {
+
+    private final PostLikeRepository postLikeRepository;
+    private final boolean enabled;
+    private final AsyncCache<Long, Roaring64NavigableMap> likedPosts;
+
+    public MemberLikedPostIndex(PostLikeRepository postLikeRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.board.liked-index.enabled:true}") boolean enabled,
+                                @Value("${app.board.liked-index.max-bytes:67108864}") long maxBytes,
+                                @Value("${app.board.liked-index.ttl-seconds:600}") long ttlSeconds) {
+        this.postLikeRepository = postLikeRepository;
+        this.enabled = enabled;
+        this.likedPosts = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long memberId, Roaring64NavigableMap bitmap) -> (int) Math.min(Integer.MAX_VALUE, 64 + bitmap.serializedSizeInBytes()))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, likedPosts.synchronous(), "board.liked.index");
+    }
+
+    public boolean isLiked(long memberId, long postId) {
+        if (memberId == 0L) {
+            return false;
+        }
+        if (!enabled) {
+            return postLikeRepository.existsByPostIdAndMemberId(postId, memberId);
+        }
+        return load(memberId).contains(postId);
+    }
+
+    /**
+     * 주어진 게시글 중 회원이 좋아요한 게시글 ID (목록 표시용)
+     */
+    public Set<Long> findLiked(long memberId, Collection<Long> postIds) {
+        Set<Long> liked = new HashSet<>();
+        if (memberId == 0L || postIds.isEmpty()) {
+            return liked;
+        }
+        if (!enabled) {
+            postIds.stream()
+                    .filter(postId -> postLikeRepository.existsByPostIdAndMemberId(postId, memberId))
+                    .forEach(liked::add);
+            return liked;
+        }
+        Roaring64NavigableMap bitmap = load(memberId);
+        for (Long postId : postIds) {
+            if (bitmap.contains(postId)) {
+                liked.add(postId);
+            }
+        }
+        return liked;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 좋아요 상태 변경을 반영합니다. (트랜잭션 밖이면 즉시 반영)
+     */
+    public void updateAfterCommit(long memberId, long postId, boolean liked) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(memberId, postId, liked);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(memberId, postId, liked);
+            }
+        });
+    }
+
+    // 키에 등록된 미완료 Future가 있으면 기다리고, 없으면 직접 등록한 뒤 현재 스레드에서 적재하여 완료
+    // (적재 실패 시 Future가 예외로 완료되고 Caffeine이 항목을 제거하므로 다음 요청이 다시 적재)
+    private Roaring64NavigableMap load(long memberId) {
+        CompletableFuture<Roaring64NavigableMap> created = new CompletableFuture<>();
+        CompletableFuture<Roaring64NavigableMap> future = likedPosts.get(memberId, (k, executor) -> created);
+        if (future != created) {
+            return join(future);
+        }
+
+        try {
+            Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+            postLikeRepository.findPostIdsByMemberId(memberId).forEach(bitmap::addLong);
+            bitmap.runOptimize();
+            created.complete(bitmap);
+            return bitmap;
+        } catch (Throwable t) {
+            created.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    private static Roaring64NavigableMap join(CompletableFuture<Roaring64NavigableMap> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    // 적재된 집합에만 반영 (적재 전이면 다음 확인 시 DB에서 최신 상태로 적재)
+    // 적재 중이면 조회 시점이 변경 이전일 수 있으므로 항목을 제거하여 다시 적재하게 함
+    private void update(long memberId, long postId, boolean liked) {
+        likedPosts.asMap().computeIfPresent(memberId, (key, future) -> {
+            Roaring64NavigableMap current = future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+            if (current == null) {
+                return null;
+            }
+            Roaring64NavigableMap copy = new Roaring64NavigableMap();
+            copy.or(current);
+            if (liked) {
+                copy.addLong(postId);
+            } else {
+                copy.removeLong(postId);
+            }
+            return CompletableFuture.completedFuture(copy);
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package gyun.sample.domain.board.service.common;
+
+import gyun.sample.domain.board.entity.Post;
+import gyun.sample.domain.board.payload.dto.PostContentSummary;
+import gyun.sample.domain.board.payload.dto.PostSearchText;
+import gyun.sample.domain.board.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글 파생 컬럼(thumbnailUrl, hasImage, excerpt, searchText) 백필 작업
+ * - 컬럼 추가 이전에 작성된 게시글은 excerpt/searchText가 null 이므로, 서버 기동 후 비동기로 한 번 계산해 채웁니다.
+ * - 배치 단위로 별도 트랜잭션을 사용하여 긴 트랜잭션과 대량 메모리 사용을 피합니다.
+ */
+@Slf4j
+@Service
+public class PostContentBackfillService {
+
+    private static final Pageable BATCH = PageRequest.of(0, 200);
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.board.content-backfill.enabled:true}")
+    private boolean enabled;
+
+    public PostContentBackfillService(PostRepository postRepository, PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int total = backfill();
+            if (total > 0) {
+                log.info("[Post Backfill] 파생 컬럼 백필 완료: {}건", total);
+            }
+        } catch (Exception e) {
+            log.error("[Post Backfill] 백필 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * excerpt 또는 searchText가 비어 있는 게시글을 ID 순서로 끝까지 처리합니다.
+     *
+     * @return 처리한 게시글 수
+     */
+    public int backfill() {
+        long[] lastId = {0L};
+        int total = 0;
+
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> {
+                List<Post> posts = postRepository.findBackfillTargets(lastId[0], BATCH);
+                for (Post post : posts) {
+                    // Dirty Checking 대신 직접 UPDATE: Auditing(modifiedAt)이 갱신되어 사이트맵 lastmod가 바뀌는 것을 방지
+                    if (post.getExcerpt() == null) {
+                        PostContentSummary summary = PostContentSummary.from(post.getContent());
+                        postRepository.updateContentSummary(post.getId(), summary.thumbnailUrl(), summary.hasImage(), summary.excerpt());
+                    }
+                    if (post.getSearchText() == null) {
+                        PostSearchText searchText = PostSearchText.of(post.getTitle(), post.getAuthor().getNickName(), post.getContent());
+                        postRepository.updateSearchText(post.getId(), searchText.value());
+                    }
+                    lastId[0] = post.getId();
+                }
+                return posts.size();
+            });
+
+            if (processed == null || processed == 0) {
+                return total;
+            }
+            total += processed;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package gyun.sample.domain.board.service.common;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 카운터(조회수, 좋아요 수) Write-Behind 버퍼 공통 구현
+ * - 요청마다 게시글 행을 UPDATE(행 잠금 경합)하지 않고 게시글별 LongAdder에 증감분을 누적합니다.
+ * - flush 시 누적된 증감분을 UPDATE ... FROM (VALUES ...) 한 번으로 반영하고, 반영된 만큼만 차감합니다.
+ */
+public abstract class PostCountBuffer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    protected PostCountBuffer(JdbcTemplate jdbcTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 반영할 컬럼의 SET 식 (현재 값 p.{column}, 증감분 v.delta 사용)
+     * 예: "view_count = p.view_count + v.delta"
+     */
+    protected abstract String setClause();
+
+    public void add(long postId, long delta) {
+        while (true) {
+            LongAdder adder = pending.computeIfAbsent(postId, key -> new LongAdder());
+            adder.add(delta);
+            // 플러시 중 빈 누산기로 판단되어 제거된 경우, 증감분을 되돌리고 새 누산기에 다시 반영
+            if (pending.get(postId) == adder) {
+                return;
+            }
+            adder.add(-delta);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감분
+     */
+    public long getPending(long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 증감분을 DB에 반영합니다.
+     *
+     * @return 반영한 게시글 ID 목록
+     */
+    public synchronized List<Long> flush() {
+        // 여러 노드가 같은 행을 갱신할 때 교착 상태가 생기지 않도록 post_id 순서로 정렬
+        TreeMap<Long, Long> deltas = new TreeMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                deltas.put(postId, delta);
+            }
+        });
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+            update(chunk);
+
+            // 반영이 끝난 만큼만 차감 (그 사이 들어온 증감분은 유지, 실패 시 다음 flush에서 재시도)
+            for (Map.Entry<Long, Long> entry : chunk) {
+                pending.get(entry.getKey()).add(-entry.getValue());
+            }
+        }
+
+        // 더 이상 증감분이 없는 게시글의 누산기 제거 (메모리 정리)
+        deltas.keySet().forEach(postId -> pending.computeIfPresent(postId, (key, adder) -> adder.sum() == 0 ? null : adder));
+        return new ArrayList<>(deltas.keySet());
+    }
+
+    // Auditing(modifiedAt)과 무관하게 카운터 컬럼만 변경하는 단일 UPDATE
+    private void update(List<Map.Entry<Long, Long>> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE post AS p SET ").append(setClause()).append(" FROM (VALUES ");
+        Object[] params = new Object[chunk.size() * 2];
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?::bigint, ?::int)");
+            params[i * 2] = chunk.get(i).getKey();
+            params[i * 2 + 1] = chunk.get(i).getValue();
+        }
+        sql.append(") AS v(post_id, delta) WHERE p.post_id = v.post_id");
+
+        jdbcTemplate.update(sql.toString(), params);
+    }
+}
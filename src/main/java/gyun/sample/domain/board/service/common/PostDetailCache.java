@@ -0,0 +1,146 @@
+package gyun.sample.domain.board.service.common;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gyun.sample.domain.board.payload.dto.PostCounters;
+import gyun.sample.domain.board.payload.dto.PostDetailSnapshot;
+import gyun.sample.domain.board.repository.PostRepository;
+import gyun.sample.domain.log.enums.LogType;
+import gyun.sample.domain.log.event.MemberActivityEvent;
+import gyun.sample.domain.log.event.PostActivityEvent;
+import gyun.sample.global.exception.GlobalException;
+import gyun.sample.global.exception.enums.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 Read-Through 캐시 (인기 게시글 조회 쿼리 집중 방지)
+ * [성능 개선]
+ * - 변하지 않는 상세 데이터(PostDetailSnapshot)와 카운터(PostCounters)를 따로 캐시합니다.
+ * 상세 데이터는 게시글 ID만을 키로 하는 TTL(ttl-seconds) 캐시이며, 같은 노드의 게시글 쓰기/작성자 정보 변경 이벤트(커밋 이후)로 무효화되고,
+ * 카운터는 짧게(counters-ttl-ms) 유지되며 버퍼 반영(flush) 직후 만료되므로, 표시 값(DB 값 + 버퍼 증감분)의 오차는 반영 직후 잠깐으로 제한됩니다.
+ * - 요청 병합: 같은 게시글의 동시 캐시 미스는 먼저 도착한 요청 하나만 DB를 조회하고, 나머지는 그 결과를 기다립니다.
+ * 조회는 요청 스레드(호출자의 트랜잭션)에서 실행되며, 대기는 CompletableFuture로 하여 가상 스레드를 고정(pinning)하지 않습니다.
+ * - 적중 시 수정 여부를 DB에서 다시 확인하지 않으므로, 다른 노드에서 일어난 수정은 이벤트가 전달되지 않아 최대 ttl-seconds 동안 이전 내용이 보일 수 있습니다.
+ * - 사용자별 좋아요 여부는 캐시하지 않습니다. (AbstractReadPostService에서 별도 확인)
+ */
+@Component
+public class PostDetailCache {
+
+    private static final Set<LogType> POST_WRITE_TYPES = EnumSet.of(LogType.POST_CREATE, LogType.POST_UPDATE, LogType.POST_DELETE);
+    private static final Set<LogType> MEMBER_WRITE_TYPES = EnumSet.of(LogType.UPDATE, LogType.INACTIVE);
+
+    private final PostRepository postRepository;
+    private final boolean enabled;
+    private final AsyncCache<Long, PostDetailSnapshot> snapshots;
+    private final AsyncCache<Long, PostCounters> counters;
+
+    private final Counter hits;
+    private final Counter loads;
+
+    public PostDetailCache(PostRepository postRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.board.detail-cache.enabled:true}") boolean enabled,
+                           @Value("${app.board.detail-cache.ttl-seconds:300}") long ttlSeconds,
+                           @Value("${app.board.detail-cache.max-entries:10000}") long maxEntries,
+                           @Value("${app.board.detail-cache.counters-ttl-ms:5000}") long countersTtlMillis) {
+        this.postRepository = postRepository;
+        this.enabled = enabled;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .buildAsync();
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(countersTtlMillis))
+                .buildAsync();
+        this.hits = Counter.builder("board.detail.cache").tag("result", "hit").register(meterRegistry);
+        this.loads = Counter.builder("board.detail.cache").tag("result", "load").register(meterRegistry);
+    }
+
+    /**
+     * 변하지 않는 상세 데이터 (없으면 PAGE_NOT_EXIST)
+     */
+    public PostDetailSnapshot getSnapshot(Long postId) {
+        Supplier<PostDetailSnapshot> loader = () -> postRepository.findDetailSnapshot(postId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.PAGE_NOT_EXIST));
+        return enabled ? getOrLoad(snapshots, postId, loader) : loader.get();
+    }
+
+    /**
+     * DB에 반영된 카운터 (버퍼 증감분 제외)
+     */
+    public PostCounters getCounters(Long postId) {
+        Supplier<PostCounters> loader = () -> postRepository.findCountersById(postId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.PAGE_NOT_EXIST));
+        return enabled ? getOrLoad(counters, postId, loader) : loader.get();
+    }
+
+    /**
+     * 카운터 버퍼 반영 직후 호출: 반영된 게시글의 카운터를 다시 읽도록 만료
+     */
+    public void expireCounters(Collection<Long> postIds) {
+        if (!postIds.isEmpty()) {
+            counters.synchronous().invalidateAll(postIds);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        if (POST_WRITE_TYPES.contains(event.logType()) && event.postId() != null) {
+            snapshots.synchronous().invalidate(event.postId());
+            counters.synchronous().invalidate(event.postId());
+        }
+    }
+
+    // 작성자 닉네임이 바뀌면 해당 작성자의 게시글을 찾지 않고 전체 무효화 (회원 정보 수정은 드묾)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberActivity(MemberActivityEvent event) {
+        if (MEMBER_WRITE_TYPES.contains(event.logType())) {
+            snapshots.synchronous().invalidateAll();
+        }
+    }
+
+    // 키에 등록된 미완료 Future가 있으면 기다리고, 없으면 직접 등록한 뒤 현재 스레드에서 조회하여 완료
+    // (조회 실패 시 Future가 예외로 완료되고 Caffeine이 항목을 제거하므로 다음 요청이 다시 조회)
+    private <V> V getOrLoad(AsyncCache<Long, V> cache, Long key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+        if (future != created) {
+            hits.increment();
+            return join(future);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (Throwable t) {
+            created.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
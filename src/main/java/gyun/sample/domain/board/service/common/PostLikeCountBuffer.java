@@ -0,0 +1,97 @@
+package gyun.sample.domain.board.service.common;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 좋아요 수 Write-Behind 버퍼
+ * - 좋아요/취소마다 게시글 행을 잠그지 않고 증감분을 모아 주기적으로 일괄 반영합니다.
+ * - 증감분은 post_like 변경이 커밋된 이후에만 누적하여, 롤백된 요청이 집계되지 않도록 합니다.
+ * - 변경된 게시글 ID를 기록해 두었다가 PostLikeReconciler가 실제 post_like 개수로 보정합니다.
+ */
+@Slf4j
+@Component
+public class PostLikeCountBuffer extends PostCountBuffer {
+
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private final PostDetailCache postDetailCache;
+
+    public PostLikeCountBuffer(JdbcTemplate jdbcTemplate, PostDetailCache postDetailCache,
+                               @Value("${app.board.like.batch-size:500}") int batchSize) {
+        super(jdbcTemplate, batchSize);
+        this.postDetailCache = postDetailCache;
+    }
+
+    @Override
+    protected String setClause() {
+        return "like_count = GREATEST(0, p.like_count + v.delta)";
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 증감분을 누적합니다. (트랜잭션 밖이면 즉시 누적)
+     */
+    public void addAfterCommit(long postId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addAndTouch(postId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addAndTouch(postId, delta);
+            }
+        });
+    }
+
+    /**
+     * 보정 대상(최근 좋아요 변경) 게시글 ID를 꺼냅니다.
+     */
+    public List<Long> drainTouched() {
+        List<Long> ids = new ArrayList<>(touched);
+        touched.removeAll(ids);
+        return ids;
+    }
+
+    /**
+     * 보정을 다음 주기로 미룬 게시글 ID를 다시 기록합니다.
+     */
+    public void touch(List<Long> postIds) {
+        touched.addAll(postIds);
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.like.flush-interval-ms:3000}")
+    public void scheduledFlush() {
+        try {
+            // 반영된 게시글의 캐시된 카운터를 만료 (DB 값 + 남은 증감분으로 다시 계산)
+            postDetailCache.expireCounters(flush());
+        } catch (Exception e) {
+            log.error("[Like Count] 좋아요 수 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            int flushed = flush().size();
+            log.info("[Like Count] 종료 전 좋아요 수 반영 완료: {}건", flushed);
+        } catch (Exception e) {
+            log.error("[Like Count] 종료 전 좋아요 수 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void addAndTouch(long postId, long delta) {
+        add(postId, delta);
+        touched.add(postId);
+    }
+}
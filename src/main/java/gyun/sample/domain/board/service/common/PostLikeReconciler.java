@@ -0,0 +1,76 @@
+package gyun.sample.domain.board.service.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 좋아요 수(Post.likeCount) 보정
+ * - likeCount는 버퍼(PostLikeCountBuffer)를 통해 비동기로 증감되므로, 실제 post_like 행 수로 주기적으로 다시 계산합니다.
+ * - 짧은 주기: 최근 좋아요가 변경된 게시글만 보정 / 새벽: 전체 게시글 보정
+ * - (post_id, member_id) 중복 정리와 UNIQUE 인덱스는 db/schema/04-post-like-unique.sql에서 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeReconciler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostLikeCountBuffer likeCountBuffer;
+
+    @Scheduled(fixedDelayString = "${app.board.like.reconcile-interval-ms:600000}")
+    public void reconcileTouched() {
+        try {
+            likeCountBuffer.flush();
+            List<Long> targets = new ArrayList<>();
+            List<Long> deferred = new ArrayList<>();
+            // 보정 직전에 다시 변경되어 미반영 증감분이 있는 게시글은 중복 반영을 피하기 위해 다음 주기로 미룸
+            for (Long postId : likeCountBuffer.drainTouched()) {
+                (likeCountBuffer.getPending(postId) == 0 ? targets : deferred).add(postId);
+            }
+            likeCountBuffer.touch(deferred);
+
+            int corrected = 0;
+            for (int from = 0; from < targets.size(); from += BATCH_SIZE) {
+                corrected += reconcile(targets.subList(from, Math.min(from + BATCH_SIZE, targets.size())));
+            }
+            if (corrected > 0) {
+                log.info("[Like] 좋아요 수 보정: {}건", corrected);
+            }
+        } catch (Exception e) {
+            log.error("[Like] 좋아요 수 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${app.board.like.full-reconcile-cron:0 30 4 * * *}")
+    public void fullReconcile() {
+        try {
+            likeCountBuffer.flush();
+            int corrected = jdbcTemplate.update("UPDATE post AS p SET like_count = c.cnt " +
+                    "FROM (SELECT p2.post_id, COUNT(pl.post_like_id) AS cnt FROM post p2 " +
+                    "LEFT JOIN post_like pl ON pl.post_id = p2.post_id GROUP BY p2.post_id) AS c " +
+                    "WHERE p.post_id = c.post_id AND p.like_count <> c.cnt");
+            log.info("[Like] 전체 좋아요 수 보정 완료: {}건", corrected);
+        } catch (Exception e) {
+            log.error("[Like] 전체 좋아요 수 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 지정한 게시글만 post_like 행 수로 다시 계산 (값이 다른 행만 UPDATE)
+    private int reconcile(List<Long> postIds) {
+        StringBuilder sql = new StringBuilder("UPDATE post AS p SET like_count = c.cnt FROM (" +
+                "SELECT v.post_id, (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = v.post_id) AS cnt FROM (VALUES ");
+        for (int i = 0; i < postIds.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?::bigint)");
+        }
+        sql.append(") AS v(post_id)) AS c WHERE p.post_id = c.post_id AND p.like_count <> c.cnt");
+        return jdbcTemplate.update(sql.toString(), postIds.toArray());
+    }
+}
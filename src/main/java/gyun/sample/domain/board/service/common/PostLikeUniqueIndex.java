@@ -0,0 +1,53 @@
+package gyun.sample.domain.board.service.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * post_like (post_id, member_id) UNIQUE 인덱스 존재 여부
+ * - 멱등 INSERT(ON CONFLICT (post_id, member_id))는 해당 UNIQUE 인덱스가 있어야만 실행할 수 있습니다.
+ * - 인덱스는 db/schema/04-post-like-unique.sql(SchemaInitializer)로 요청 수신 전에 만들어지지만,
+ * 중복 정리 실패나 외부 마이그레이션 미적용으로 없을 수 있으므로 확인될 때까지 RECHECK_INTERVAL_MILLIS마다 다시 확인합니다.
+ * 한 번 확인되면 이후에는 조회하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeUniqueIndex {
+
+    private static final long RECHECK_INTERVAL_MILLIS = 60_000;
+
+    // 부분/식 인덱스가 아니고 키 컬럼이 정확히 (post_id, member_id)인 유효한 UNIQUE 인덱스
+    private static final String EXISTS_SQL = "SELECT EXISTS (SELECT 1 FROM pg_index i " +
+            "WHERE i.indrelid = to_regclass('post_like') AND i.indisunique AND i.indisvalid " +
+            "AND i.indpred IS NULL AND i.indexprs IS NULL AND i.indnkeyatts = 2 " +
+            "AND (SELECT array_agg(a.attname::text ORDER BY a.attname) FROM pg_attribute a " +
+            "WHERE a.attrelid = i.indrelid AND a.attnum = ANY (i.indkey)) = ARRAY['member_id', 'post_id'])";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean ready;
+    private volatile long checkedAt;
+
+    public boolean isReady() {
+        if (ready) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (now - checkedAt < RECHECK_INTERVAL_MILLIS) {
+            return false;
+        }
+        checkedAt = now;
+        try {
+            ready = Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class));
+            if (!ready) {
+                log.warn("[Like] post_like (post_id, member_id) UNIQUE 인덱스가 없어 존재 확인 후 INSERT 방식으로 처리합니다.");
+            }
+        } catch (Exception e) {
+            log.warn("[Like] 좋아요 UNIQUE 인덱스 확인 실패: {}", e.getMessage());
+        }
+        return ready;
+    }
+}
@@ -0,0 +1,78 @@
+package gyun.sample.domain.board.service.common;
+
+import gyun.sample.domain.board.entity.Post;
+import gyun.sample.domain.board.payload.dto.PostSearchText;
+import gyun.sample.domain.board.repository.PostRepository;
+import gyun.sample.domain.log.enums.LogType;
+import gyun.sample.domain.log.event.MemberActivityEvent;
+import gyun.sample.domain.member.entity.Member;
+import gyun.sample.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 작성자 닉네임 변경 시 게시글 검색 텍스트(searchText) 갱신
+ * - searchText에는 작성 시점의 닉네임이 포함되므로, 회원 정보 수정/탈퇴 후 해당 작성자의 게시글을 다시 계산합니다.
+ * - 커밋 이후(AFTER_COMMIT) 비동기로 처리하여 변경된 닉네임을 읽고, 회원 수정 요청의 응답 시간에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+public class PostSearchTextRefresher {
+
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostSearchTextRefresher(PostRepository postRepository, MemberRepository memberRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberActivity(MemberActivityEvent event) {
+        if (event.memberId() == null || (event.logType() != LogType.UPDATE && event.logType() != LogType.INACTIVE)) {
+            return;
+        }
+        try {
+            refresh(event.memberId());
+        } catch (Exception e) {
+            log.error("[Post Search] 검색 텍스트 갱신 실패 (memberId={}): {}", event.memberId(), e.getMessage(), e);
+        }
+    }
+
+    private void refresh(Long memberId) {
+        String nickName = memberRepository.findById(memberId).map(Member::getNickName).orElse(null);
+        if (nickName == null) {
+            return;
+        }
+
+        long[] lastId = {0L};
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> {
+                List<Post> posts = postRepository.findTop200ByAuthorIdAndIdGreaterThanOrderByIdAsc(memberId, lastId[0]);
+                for (Post post : posts) {
+                    String searchText = PostSearchText.of(post.getTitle(), nickName, post.getContent()).value();
+                    // 권한 변경 등 닉네임이 그대로인 경우는 UPDATE 생략
+                    if (!searchText.equals(post.getSearchText())) {
+                        postRepository.updateSearchText(post.getId(), searchText);
+                    }
+                    lastId[0] = post.getId();
+                }
+                return posts.size();
+            });
+
+            if (processed == null || processed == 0) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package gyun.sample.domain.board.service.common;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수 Write-Behind 버퍼
+ * - 조회 요청마다 행 단위 UPDATE를 실행하지 않고, 주기적으로(그리고 종료 시) 누적된 증가분을 일괄 반영합니다.
+ * - 아직 반영되지 않은 증가분은 상세 조회 시 DB 값에 더해 보여줍니다(getPending).
+ */
+@Slf4j
+@Component
+public class PostViewCountBuffer extends PostCountBuffer {
+
+    private final PostDetailCache postDetailCache;
+
+    public PostViewCountBuffer(JdbcTemplate jdbcTemplate, PostDetailCache postDetailCache,
+                               @Value("${app.board.view-count.batch-size:500}") int batchSize) {
+        super(jdbcTemplate, batchSize);
+        this.postDetailCache = postDetailCache;
+    }
+
+    @Override
+    protected String setClause() {
+        return "view_count = p.view_count + v.delta";
+    }
+
+    public void increment(long postId) {
+        add(postId, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.view-count.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        try {
+            // 반영된 게시글의 캐시된 카운터를 만료 (DB 값 + 남은 증감분으로 다시 계산)
+            postDetailCache.expireCounters(flush());
+        } catch (Exception e) {
+            // 실패한 증가분은 버퍼에 그대로 남아 다음 주기에 다시 시도됨
+            log.error("[View Count] 조회수 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            int flushed = flush().size();
+            log.info("[View Count] 종료 전 조회수 반영 완료: {}건", flushed);
+        } catch (Exception e) {
+            log.error("[View Count] 종료 전 조회수 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+}
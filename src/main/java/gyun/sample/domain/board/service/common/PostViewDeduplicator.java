@@ -0,0 +1,38 @@
+package gyun.sample.domain.board.service.common;
+
+import gyun.sample.global.cache.RotatingBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 서버 측 게시글 조회 중복 제거
+ * - 기존 게시글별 쿠키(post_view_{id}) 방식은 많이 읽는 사용자일수록 요청 헤더가 무한히 커지고, 쿠키 삭제로 쉽게 우회됩니다.
+ * - (조회자, 게시글) 키를 교체형 Bloom Filter에 기록하여 고정된 메모리로 중복 조회를 판별합니다.
+ * - 조회자는 로그인 회원이면 회원 ID, 비로그인이면 클라이언트 IP 입니다.
+ * - 노드별 메모리에 저장되므로 다중 노드에서는 노드 수만큼 중복 집계될 수 있습니다.
+ */
+@Component
+public class PostViewDeduplicator {
+
+    private final RotatingBloomFilter filter;
+
+    public PostViewDeduplicator(
+            @Value("${app.board.view-dedup.window-hours:12}") long windowHours,
+            @Value("${app.board.view-dedup.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${app.board.view-dedup.fpp:0.01}") double fpp) {
+        this.filter = new RotatingBloomFilter(expectedInsertions, fpp, Duration.ofHours(windowHours).toMillis());
+    }
+
+    /**
+     * 조회수를 증가시켜야 하는 최초 조회인지 확인하고 기록합니다.
+     *
+     * @param memberId 로그인 회원 ID (비로그인은 0)
+     * @param clientIp 비로그인 조회자 식별용 IP
+     */
+    public boolean isFirstView(long postId, long memberId, String clientIp) {
+        String viewer = memberId != 0 ? "m:" + memberId : "ip:" + clientIp;
+        return filter.putIfAbsent(viewer + "|" + postId);
+    }
+}
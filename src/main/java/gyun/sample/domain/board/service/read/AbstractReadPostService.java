@@ -1,14 +1,22 @@
 package gyun.sample.domain.board.service.read;
 
 import com.querydsl.core.types.Predicate;
-import gyun.sample.domain.board.entity.Post;
 import gyun.sample.domain.board.enums.PostType;
+import gyun.sample.domain.board.payload.dto.PostCounters;
+import gyun.sample.domain.board.payload.dto.PostCursor;
+import gyun.sample.domain.board.payload.dto.PostDetailSnapshot;
+import gyun.sample.domain.board.payload.dto.PostListDTO;
 import gyun.sample.domain.board.payload.request.PostListRequest;
 import gyun.sample.domain.board.payload.response.PostDetailResponse;
 import gyun.sample.domain.board.payload.response.PostListResponse;
-import gyun.sample.domain.board.repository.PostLikeRepository;
+import gyun.sample.domain.board.payload.response.PostSliceResponse;
 import gyun.sample.domain.board.repository.PostRepository;
 import gyun.sample.domain.board.repository.PostSpecification;
+import gyun.sample.domain.board.search.PostSearchIndex;
+import gyun.sample.domain.board.service.common.MemberLikedPostIndex;
+import gyun.sample.domain.board.service.common.PostDetailCache;
+import gyun.sample.domain.board.service.common.PostLikeCountBuffer;
+import gyun.sample.domain.board.service.common.PostViewCountBuffer;
 import gyun.sample.global.exception.GlobalException;
 import gyun.sample.global.exception.enums.ErrorCode;
 import gyun.sample.global.utils.UtilService;
@@ -16,7 +24,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
@@ -24,7 +34,11 @@ import org.springframework.transaction.annotation.Transactional;
 public abstract class AbstractReadPostService implements ReadPostService {
 
     protected final PostRepository postRepository;
-    protected final PostLikeRepository postLikeRepository;
+    protected final PostSearchIndex postSearchIndex;
+    protected final PostViewCountBuffer viewCountBuffer;
+    protected final PostLikeCountBuffer likeCountBuffer;
+    protected final PostDetailCache postDetailCache;
+    protected final MemberLikedPostIndex likedPostIndex;
 
     public abstract PostType getPostType();
 
@@ -33,57 +47,55 @@ public abstract class AbstractReadPostService implements ReadPostService {
         Sort sort = Sort.by(Sort.Direction.DESC, "isPinned", "createdAt");
         Pageable pageable = PageRequest.of(request.page() - 1, request.size(), sort);
 
-        Predicate predicate = PostSpecification.searchPost(request, getPostType());
+        Predicate predicate = PostSpecification.searchPost(request, getPostType(), postSearchIndex);
 
-        // [성능 개선] N+1 문제를 해결하기 위해 fetch join이 적용된 메서드 호출
-        // 기존: postRepository.findAll(predicate, pageable)
-        Page<Post> posts = postRepository.findAllWithAuthor(predicate, pageable);
+        // [성능 개선] 본문(content)을 제외한 Projection 조회 (작성자 닉네임은 조인으로 함께 조회)
+        // 기존: postRepository.findAllWithAuthor(predicate, pageable)
+        Page<PostListDTO> posts = postRepository.findAllForList(predicate, pageable);
 
         return posts.map(PostListResponse::new);
     }
 
     @Override
+    public PostSliceResponse getPostSlice(PostListRequest request) {
+        Predicate predicate = PostSpecification.searchPost(request, getPostType(), postSearchIndex);
+        PostCursor cursor = PostCursor.decode(request.cursor());
+
+        Slice<PostListDTO> slice = postRepository.findSliceForList(predicate, cursor, request.size());
+        return PostSliceResponse.from(slice);
+    }
+
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 시작하지 않음 (미스 시 각 조회가 자체 읽기 전용 트랜잭션으로 실행)
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PostDetailResponse getPostDetail(Long postId, long currentUserId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new GlobalException(ErrorCode.PAGE_NOT_EXIST));
+        // [성능 개선] 변하지 않는 상세 데이터/카운터는 캐시에서 조회 (동시 미스는 DB 조회 1회로 병합)
+        PostDetailSnapshot snapshot = postDetailCache.getSnapshot(postId);
 
-        if (post.getPostType() != getPostType()) {
+        if (snapshot.postType() != getPostType()) {
             throw new GlobalException(ErrorCode.INVALID_PARAMETER, "해당 게시판의 글이 아닙니다.");
         }
 
-        boolean isLiked = false;
-        if (currentUserId != 0) {
-            isLiked = postLikeRepository.existsByPostIdAndMemberId(postId, currentUserId);
-        }
+        // 사용자별 좋아요 여부는 상세 캐시와 별도로 회원별 좋아요 집합에서 확인 (post_like 조회 없음)
+        boolean isLiked = likedPostIndex.isLiked(currentUserId, postId);
 
+        PostCounters counters = postDetailCache.getCounters(postId);
         return new PostDetailResponse(
-                post.getId(),
-                post.getTitle(),
-                post.getContent(),
-                post.getAuthor().getNickName(),
-                post.getAuthor().getId(),
-                post.getViewCount(),
-                post.getLikeCount(),
-                post.getPostType().name(),
+                snapshot.postId(),
+                snapshot.title(),
+                snapshot.content(),
+                snapshot.authorNickname(),
+                snapshot.authorUserId(),
+                // 아직 DB에 반영되지 않은 조회수/좋아요 증감분을 합산하여 일관된 값 제공
+                (int) (counters.viewCount() + viewCountBuffer.getPending(postId)),
+                (int) Math.max(0, counters.likeCount() + likeCountBuffer.getPending(postId)),
+                snapshot.postType().name(),
                 isLiked,
-                UtilService.formattedTime(post.getCreatedAt()),
+                UtilService.formattedTime(snapshot.createdAt()),
                 // [SEO] ISO 날짜 포맷 추가
-                post.getCreatedAt() != null ? post.getCreatedAt().toString() : "",
-                // [SEO] 썸네일 추출 로직 적용
-                extractThumbnail(post.getContent())
+                snapshot.createdAt() != null ? snapshot.createdAt().toString() : "",
+                // [SEO] 작성/수정 시점에 저장된 썸네일 사용 (본문 재파싱 제거)
+                snapshot.thumbnailUrl()
         );
     }
-
-    private String extractThumbnail(String content) {
-        if (content == null || !content.contains("<img")) return null;
-        try {
-            int srcStart = content.indexOf("src=\"");
-            if (srcStart == -1) return null;
-            int srcEnd = content.indexOf("\"", srcStart + 5);
-            if (srcEnd == -1) return null;
-            return content.substring(srcStart + 5, srcEnd);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
\ No newline at end of file
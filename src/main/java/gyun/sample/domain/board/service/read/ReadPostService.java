@@ -3,6 +3,7 @@ package gyun.sample.domain.board.service.read;
 import gyun.sample.domain.board.payload.request.PostListRequest;
 import gyun.sample.domain.board.payload.response.PostDetailResponse;
 import gyun.sample.domain.board.payload.response.PostListResponse;
+import gyun.sample.domain.board.payload.response.PostSliceResponse;
 import org.springframework.data.domain.Page;
 
 public interface ReadPostService {
@@ -16,4 +17,13 @@ public interface ReadPostService {
     PostDetailResponse getPostDetail(Long postId, long currentUserId);
 
     Page<PostListResponse> getPostAll(PostListRequest postListRequest);
+
+    /**
+     * 게시글 목록 Keyset(커서) 조회
+     * 깊은 페이지에서도 OFFSET/COUNT 비용 없이 다음 페이지를 조회합니다.
+     *
+     * @param postListRequest 검색 조건 및 커서 토큰
+     * @return 목록 + 다음 커서
+     */
+    PostSliceResponse getPostSlice(PostListRequest postListRequest);
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package gyun.sample.domain.board.service.read;
 
 import gyun.sample.domain.board.enums.PostType;
-import gyun.sample.domain.board.repository.PostLikeRepository;
 import gyun.sample.domain.board.repository.PostRepository;
+import gyun.sample.domain.board.search.PostSearchIndex;
+import gyun.sample.domain.board.service.common.MemberLikedPostIndex;
+import gyun.sample.domain.board.service.common.PostDetailCache;
+import gyun.sample.domain.board.service.common.PostLikeCountBuffer;
+import gyun.sample.domain.board.service.common.PostViewCountBuffer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,8 +16,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ReadSuggestionPostService extends AbstractReadPostService {
 
-    public ReadSuggestionPostService(PostRepository postRepository, PostLikeRepository postLikeRepository) {
-        super(postRepository, postLikeRepository);
+    public ReadSuggestionPostService(PostRepository postRepository, PostSearchIndex postSearchIndex,
+                                     PostViewCountBuffer viewCountBuffer, PostLikeCountBuffer likeCountBuffer,
+                                     PostDetailCache postDetailCache, MemberLikedPostIndex likedPostIndex) {
+        super(postRepository, postSearchIndex, viewCountBuffer, likeCountBuffer, postDetailCache, likedPostIndex);
     }
 
     @Override
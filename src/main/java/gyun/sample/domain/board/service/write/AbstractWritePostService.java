@@ -2,12 +2,17 @@ package gyun.sample.domain.board.service.write;
 
 import gyun.sample.domain.account.enums.AccountRole;
 import gyun.sample.domain.board.entity.Post;
-import gyun.sample.domain.board.entity.PostLike;
 import gyun.sample.domain.board.enums.PostType;
+import gyun.sample.domain.board.payload.dto.PostContentSummary;
+import gyun.sample.domain.board.payload.dto.PostSearchText;
 import gyun.sample.domain.board.payload.request.PostCreateRequest;
 import gyun.sample.domain.board.payload.request.PostUpdateRequest;
 import gyun.sample.domain.board.repository.PostLikeRepository;
 import gyun.sample.domain.board.repository.PostRepository;
+import gyun.sample.domain.board.service.common.MemberLikedPostIndex;
+import gyun.sample.domain.board.service.common.PostLikeCountBuffer;
+import gyun.sample.domain.board.service.common.PostLikeUniqueIndex;
+import gyun.sample.domain.board.service.common.PostViewCountBuffer;
 import gyun.sample.domain.log.enums.LogType;
 import gyun.sample.domain.log.event.PostActivityEvent;
 import gyun.sample.domain.member.entity.Member;
@@ -19,11 +24,11 @@ import gyun.sample.global.utils.UtilService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
 
 @RequiredArgsConstructor
 @Transactional
@@ -35,6 +40,10 @@ public abstract class AbstractWritePostService implements WritePostService {
 
     protected final ApplicationEventPublisher eventPublisher;
     protected final HttpServletRequest httpServletRequest;
+    protected final PostViewCountBuffer viewCountBuffer;
+    protected final PostLikeCountBuffer likeCountBuffer;
+    protected final MemberLikedPostIndex likedPostIndex;
+    protected final PostLikeUniqueIndex likeUniqueIndex;
 
     public abstract PostType getPostType();
 
@@ -44,6 +53,7 @@ public abstract class AbstractWritePostService implements WritePostService {
                 .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_EXIST));
 
         Post post = new Post(request.title(), request.content(), getPostType(), author);
+        applyContentSummary(post);
         Post savedPost = postRepository.save(post);
 
         // [최적화] 이미 조회된 Author 정보를 사용하여 로그 발행 (DB 재조회 방지)
@@ -59,6 +69,7 @@ public abstract class AbstractWritePostService implements WritePostService {
 
         validateOwner(post, userId);
         post.update(request);
+        applyContentSummary(post);
 
         // [최적화] SecurityContext에서 수행자 ID 조회
         publishPostLog(post, LogType.POST_UPDATE, "게시글 수정");
@@ -97,34 +108,57 @@ public abstract class AbstractWritePostService implements WritePostService {
 
     @Override
     public int likePost(long postId, long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new GlobalException(ErrorCode.PAGE_NOT_EXIST));
+        // [성능 개선] Post/Member/PostLike 엔티티를 조회하지 않고 post_like 행만 멱등 INSERT/DELETE
+        // likeCount는 커밋 이후 버퍼에 누적해 일괄 반영하므로 인기 게시글 행에 대한 잠금 대기가 발생하지 않음
+        int delta;
+        try {
+            if (insertLike(postId, userId)) {
+                delta = 1;
+            } else {
+                delta = -postLikeRepository.deleteByPostIdAndMemberId(postId, userId);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // FK 위반: 존재하지 않는 게시글(또는 회원)
+            throw new GlobalException(ErrorCode.PAGE_NOT_EXIST);
+        }
 
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_EXIST));
+        if (delta != 0) {
+            likeCountBuffer.addAfterCommit(postId, delta);
+            // 회원별 좋아요 집합도 커밋 이후 갱신 (상세/목록의 좋아요 여부 표시)
+            likedPostIndex.updateAfterCommit(userId, postId, delta > 0);
+        }
 
-        Optional<PostLike> existingLike = postLikeRepository.findByPostIdAndMemberId(postId, userId);
+        // 응답: 저장된 값 + 미반영 증감분 + 이번 변경분
+        int storedCount = postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.PAGE_NOT_EXIST));
+        return (int) Math.max(0, storedCount + likeCountBuffer.getPending(postId) + delta);
+    }
 
-        if (existingLike.isPresent()) {
-            postLikeRepository.delete(existingLike.get());
-            post.decreaseLikeCount();
-        } else {
-            postLikeRepository.save(new PostLike(post, member));
-            post.increaseLikeCount();
+    // 새로 좋아요를 기록했으면 true, 이미 좋아요 상태면 false
+    // UNIQUE 인덱스가 확인되기 전에는 ON CONFLICT를 쓸 수 없으므로 존재 확인 후 INSERT (동시 요청 시 중복 가능, 스크립트가 정리)
+    private boolean insertLike(long postId, long userId) {
+        if (likeUniqueIndex.isReady()) {
+            return postLikeRepository.insertIfAbsent(postId, userId, getExecutorId()) == 1;
         }
-
-        return post.getLikeCount();
+        return !postLikeRepository.existsByPostIdAndMemberId(postId, userId)
+                && postLikeRepository.insert(postId, userId, getExecutorId()) == 1;
     }
 
     @Override
     public void increaseViewCount(long postId) {
-        if (!postRepository.existsById(postId)) {
-            throw new GlobalException(ErrorCode.PAGE_NOT_EXIST);
-        }
-        postRepository.increaseViewCount(postId);
+        // [성능 개선] 요청마다 existsById + 행 단위 UPDATE를 실행하지 않고 메모리에 누적 후 일괄 반영
+        // 게시글 존재 여부는 직전 상세 조회(getPostDetail)에서 이미 확인됨
+        viewCountBuffer.increment(postId);
         // 조회수 로그는 Controller에서 별도 처리
     }
 
+    // [성능 개선] 목록 조회용 파생 데이터(썸네일, 이미지 여부, 요약)를 쓰기 시점에 계산하여 저장
+    private void applyContentSummary(Post post) {
+        PostContentSummary summary = PostContentSummary.from(post.getContent());
+        post.updateContentSummary(summary.thumbnailUrl(), summary.hasImage(), summary.excerpt());
+        post.updateSearchText(PostSearchText.of(post.getTitle(), post.getAuthor().getNickName(), post.getContent()).value());
+    }
+
     private void validateOwner(Post post, long userId) {
         if (post.getAuthor().getId() != userId) {
             // 슈퍼 관리자 삭제 권한 등을 위한 확장 포인트
@@ -3,6 +3,10 @@ package gyun.sample.domain.board.service.write;
 import gyun.sample.domain.board.enums.PostType;
 import gyun.sample.domain.board.repository.PostLikeRepository;
 import gyun.sample.domain.board.repository.PostRepository;
+import gyun.sample.domain.board.service.common.MemberLikedPostIndex;
+import gyun.sample.domain.board.service.common.PostLikeCountBuffer;
+import gyun.sample.domain.board.service.common.PostLikeUniqueIndex;
+import gyun.sample.domain.board.service.common.PostViewCountBuffer;
 import gyun.sample.domain.member.repository.MemberRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
@@ -19,8 +23,12 @@ public class WriteFreePostService extends AbstractWritePostService {
                                 MemberRepository memberRepository,
                                 PostLikeRepository postLikeRepository,
                                 ApplicationEventPublisher eventPublisher,
-                                HttpServletRequest httpServletRequest) {
-        super(postRepository, memberRepository, postLikeRepository, eventPublisher, httpServletRequest);
+                                HttpServletRequest httpServletRequest,
+                                PostViewCountBuffer viewCountBuffer,
+                                PostLikeCountBuffer likeCountBuffer,
+                                MemberLikedPostIndex likedPostIndex,
+                                PostLikeUniqueIndex likeUniqueIndex) {
+        super(postRepository, memberRepository, postLikeRepository, eventPublisher, httpServletRequest, viewCountBuffer, likeCountBuffer, likedPostIndex, likeUniqueIndex);
     }
 
     @Override
@@ -1,17 +1,29 @@
 package gyun.sample.domain.log.api;
 
+import gyun.sample.domain.log.enums.LogExportFormat;
 import gyun.sample.domain.log.payload.request.MemberLogRequest;
 import gyun.sample.domain.log.payload.request.PostLogRequest;
+import gyun.sample.domain.log.payload.response.LogExportResponse;
+import gyun.sample.domain.log.payload.response.LogSliceResponse;
 import gyun.sample.domain.log.payload.response.MemberLogResponse;
 import gyun.sample.domain.log.payload.response.PostLogResponse;
+import gyun.sample.domain.log.service.export.LogExportService;
 import gyun.sample.domain.log.service.read.ReadMemberLogService;
 import gyun.sample.domain.log.service.read.ReadPostLogService;
+import gyun.sample.global.config.web.AsyncTimeoutInterceptor;
+import gyun.sample.global.exception.GlobalException;
+import gyun.sample.global.exception.enums.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -19,6 +31,11 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 @Slf4j
 @Tag(name = "LogController", description = "시스템 로그 관리")
@@ -30,6 +47,11 @@ public class LogController {
 
     private final ReadMemberLogService readMemberLogService;
     private final ReadPostLogService readPostLogService;
+    private final LogExportService logExportService;
+
+    // 내보내기 스트리밍 응답 최대 작성 시간 (내보내기 엔드포인트에만 적용)
+    @Value("${app.activity-log.export.timeout:30m}")
+    private Duration exportTimeout;
 
     @Operation(summary = "회원 활동 로그 목록 페이지")
     @GetMapping("/member")
@@ -39,12 +61,13 @@ public class LogController {
             Model model) {
 
         if (bindingResult.hasErrors()) {
-            model.addAttribute("logPage", Page.empty());
+            model.addAttribute("logSlice", LogSliceResponse.empty());
             return "log/member/list";
         }
 
-        Page<MemberLogResponse> logPage = readMemberLogService.getMemberLogs(request);
-        model.addAttribute("logPage", logPage);
+        // [성능 개선] Keyset(커서) 페이지네이션 - 필터/페이지 이동마다 전체 스캔과 COUNT를 하지 않음
+        LogSliceResponse<MemberLogResponse> logSlice = readMemberLogService.getMemberLogs(request);
+        model.addAttribute("logSlice", logSlice);
 
         return "log/member/list";
     }
@@ -57,13 +80,64 @@ public class LogController {
             Model model) {
 
         if (bindingResult.hasErrors()) {
-            model.addAttribute("logPage", Page.empty());
+            model.addAttribute("logSlice", LogSliceResponse.empty());
             return "log/board/list";
         }
 
-        Page<PostLogResponse> logPage = readPostLogService.getPostLogs(request);
-        model.addAttribute("logPage", logPage);
+        LogSliceResponse<PostLogResponse> logSlice = readPostLogService.getPostLogs(request);
+        model.addAttribute("logSlice", logSlice);
 
         return "log/board/list"; // 뷰 템플릿 경로
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "회원 활동 로그 내보내기 (CSV/NDJSON 스트리밍, 선택적 gzip)",
+            description = "검색 조건/기간에 맞는 전체 로그를 내보냅니다. 페이지 파라미터(size, cursor)는 사용하지 않습니다.")
+    @GetMapping("/member/export")
+    public ResponseEntity<StreamingResponseBody> exportMemberLogs(
+            @Valid @ModelAttribute MemberLogRequest request,
+            BindingResult bindingResult,
+            @RequestParam(defaultValue = "CSV") LogExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletRequest httpRequest) {
+
+        validateExportRequest(bindingResult);
+        return toResponse(logExportService.exportMemberLogs(request, format, gzip), httpRequest);
+    }
+
+    @Operation(summary = "게시글 활동 로그 내보내기 (CSV/NDJSON 스트리밍, 선택적 gzip)",
+            description = "검색 조건/기간에 맞는 전체 로그를 내보냅니다. 페이지 파라미터(size, cursor)는 사용하지 않습니다.")
+    @GetMapping("/board/export")
+    public ResponseEntity<StreamingResponseBody> exportPostLogs(
+            @Valid @ModelAttribute PostLogRequest request,
+            BindingResult bindingResult,
+            @RequestParam(defaultValue = "CSV") LogExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletRequest httpRequest) {
+
+        validateExportRequest(bindingResult);
+        return toResponse(logExportService.exportPostLogs(request, format, gzip), httpRequest);
+    }
+
+    // 내보내기는 목록 화면과 달리 빈 결과로 대체하지 않고 잘못된 요청으로 거부
+    private static void validateExportRequest(BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            String message = bindingResult.getFieldErrors().stream()
+                    .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                    .findFirst()
+                    .orElse("잘못된 내보내기 요청입니다.");
+            throw new GlobalException(ErrorCode.INVALID_PARAMETER, message);
+        }
+    }
+
+    // 파일 다운로드 응답 (본문은 비동기 스레드에서 스트리밍으로 작성, 제한 시간은 이 응답에만 exportTimeout 적용)
+    private ResponseEntity<StreamingResponseBody> toResponse(LogExportResponse export, HttpServletRequest httpRequest) {
+        AsyncTimeoutInterceptor.setTimeout(httpRequest, exportTimeout);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(export.fileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(export.contentType()))
+                .body(export.body());
+    }
+}
@@ -2,6 +2,7 @@ package gyun.sample.domain.log.entity;
 
 import gyun.sample.domain.account.entity.BaseTimeEntity;
 import gyun.sample.domain.log.enums.LogType;
+import gyun.sample.domain.log.service.ActivityLogSink;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -11,14 +12,20 @@ import org.hibernate.annotations.Comment;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// [성능 개선] Keyset 정렬 (created_at, log_id)과 필터 컬럼별 복합 인덱스 (제목 부분 일치는 db/schema/02-activity-log-index.sql의 trigram GIN)
 @Table(name = "post_log", indexes = {
-        @Index(name = "idx_post_log_post_id", columnList = "postId"),
-        @Index(name = "idx_post_log_created_at", columnList = "createdAt")
+        @Index(name = "idx_post_log_created", columnList = "createdAt, log_id"),
+        @Index(name = "idx_post_log_post_created", columnList = "postId, createdAt, log_id"),
+        @Index(name = "idx_post_log_type_created", columnList = "logType, createdAt, log_id"),
+        @Index(name = "idx_post_log_ip_created", columnList = "clientIp, createdAt, log_id"),
+        @Index(name = "idx_post_log_executor_created", columnList = "executorId, createdAt, log_id")
 })
 public class PostLog extends BaseTimeEntity {
 
+    // [성능 개선] IDENTITY 대신 시퀀스 + pooled 할당 (INSERT 배치 가능, ActivityLogSink와 시퀀스 공유)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_log_seq")
+    @SequenceGenerator(name = "post_log_seq", sequenceName = "post_log_seq", allocationSize = ActivityLogSink.ID_ALLOCATION_SIZE)
     @Column(name = "log_id")
     private Long id;
 
@@ -0,0 +1,17 @@
+package gyun.sample.domain.log.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 활동 로그 내보내기 형식
+ */
+@Getter
+@AllArgsConstructor
+public enum LogExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson"); // 한 줄에 JSON 객체 하나
+
+    private final String contentType;
+    private final String extension;
+}
@@ -0,0 +1,10 @@
+package gyun.sample.domain.log.enums;
+
+/**
+ * 로그 대기열이 가득 찼을 때의 처리 정책
+ */
+public enum LogOverflowPolicy {
+    DROP_NEWEST, // 새 로그를 버림 (요청 스레드 지연 없음, 기본값)
+    DROP_OLDEST, // 가장 오래된 로그를 버리고 새 로그를 적재
+    BLOCK        // 지정 시간 동안 빈 자리를 기다린 후, 그래도 가득 차 있으면 버림 (역압)
+}
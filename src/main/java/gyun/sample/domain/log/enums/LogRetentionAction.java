@@ -0,0 +1,9 @@
+package gyun.sample.domain.log.enums;
+
+/**
+ * 보관 기간이 지난 로그 파티션 처리 방식
+ */
+public enum LogRetentionAction {
+    DROP,   // 파티션 테이블 삭제
+    DETACH  // 파티션에서 분리만 하고 테이블은 보존 (외부 백업/아카이브 후 수동 삭제)
+}
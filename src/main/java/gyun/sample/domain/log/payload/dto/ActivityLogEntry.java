@@ -0,0 +1,35 @@
+package gyun.sample.domain.log.payload.dto;
+
+import gyun.sample.domain.log.enums.LogType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 로그 저장소(ActivityLogSink) 대기열에 적재되는 로그 한 건
+ * - 이벤트 발생 시점에 수행자(auditor)와 시각을 확정하여, 나중에 다른 스레드에서 저장해도 값이 바뀌지 않도록 합니다.
+ */
+public sealed interface ActivityLogEntry {
+
+    record Member(
+            String loginId,
+            Long memberId,
+            LogType logType,
+            String details,
+            String clientIp,
+            String auditor,
+            LocalDateTime createdAt
+    ) implements ActivityLogEntry {
+    }
+
+    record Post(
+            Long postId,
+            String postTitle,
+            String executorId,
+            LogType logType,
+            String details,
+            String clientIp,
+            String auditor,
+            LocalDateTime createdAt
+    ) implements ActivityLogEntry {
+    }
+}
@@ -0,0 +1,26 @@
+package gyun.sample.domain.log.payload.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 로그 조회 기간 [from, to)
+ * - 로그 테이블은 created_at 월 단위 파티션이므로, 항상 기간 조건을 붙여 해당 월 파티션만 읽도록(파티션 프루닝) 합니다.
+ */
+public record LogPeriod(LocalDateTime from, LocalDateTime to) {
+
+    /**
+     * 요청 날짜(포함 범위)를 조회 기간으로 변환합니다.
+     * 시작일이 없으면 종료일 기준 최근 defaultDays일, 종료일이 없으면 오늘까지 조회합니다.
+     */
+    public static LogPeriod of(LocalDate startDate, LocalDate endDate, int defaultDays) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(defaultDays - 1L);
+        if (start.isAfter(end)) {
+            LocalDate temp = start;
+            start = end;
+            end = temp;
+        }
+        return new LogPeriod(start.atStartOfDay(), end.plusDays(1).atStartOfDay());
+    }
+}
@@ -0,0 +1,28 @@
+package gyun.sample.domain.log.payload.dto;
+
+import gyun.sample.domain.log.enums.LogType;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게시글 활동 로그 내보내기 행 (엔티티 대신 DTO로 조회하여 영속성 컨텍스트에 쌓이지 않도록 함)
+ */
+public record PostLogExportRow(
+        Long id,
+        LocalDateTime createdAt,
+        LogType logType,
+        Long postId,
+        String postTitle,
+        String executorId,
+        String clientIp,
+        String details
+) {
+    public static final List<String> CSV_HEADER =
+            List.of("id", "createdAt", "logType", "postId", "postTitle", "executorId", "clientIp", "details");
+
+    public List<Object> csvValues() {
+        return Arrays.asList(id, createdAt, logType, postId, postTitle, executorId, clientIp, details);
+    }
+}
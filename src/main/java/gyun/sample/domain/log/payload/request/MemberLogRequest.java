@@ -1,20 +1,45 @@
 package gyun.sample.domain.log.payload.request;
 
+import gyun.sample.domain.log.enums.LogType;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
 
 @Data
 public class MemberLogRequest {
 
-    @Schema(description = "페이지 번호 (1부터 시작)", example = "1")
-    @Min(value = 1, message = "페이지 번호는 1 이상이어야 합니다.")
-    private int page = 1;
-
     @Schema(description = "페이지 사이즈", example = "20")
     @Min(value = 1, message = "페이지 사이즈는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "페이지 사이즈는 100 이하여야 합니다.")
     private int size = 20;
 
-    @Schema(description = "검색어 (로그인 ID)", example = "user")
+    @Schema(description = "Keyset 페이지 커서 (비어 있으면 첫 페이지)")
+    private String cursor;
+
+    @Schema(description = "검색어 (로그인 ID, 부분 일치)", example = "user")
     private String searchWord;
-}
\ No newline at end of file
+
+    @Schema(description = "활동 유형", example = "LOGIN_FAIL")
+    private LogType logType;
+
+    @Schema(description = "요청 IP (일치)", example = "127.0.0.1")
+    private String clientIp;
+
+    @Schema(description = "대상 회원 고유 ID", example = "1")
+    private Long memberId;
+
+    @Schema(description = "수행자 (로그인 ID 또는 SYSTEM)", example = "admin")
+    private String executorId;
+
+    @Schema(description = "조회 시작일 (미입력 시 종료일 기준 최근 기본 조회 기간)", example = "2024-01-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @Schema(description = "조회 종료일 (미입력 시 오늘)", example = "2024-01-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+}
@@ -0,0 +1,13 @@
+package gyun.sample.domain.log.payload.response;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 활동 로그 내보내기 응답 (파일명, 콘텐츠 타입, 스트리밍 본문)
+ */
+public record LogExportResponse(
+        String fileName,
+        String contentType,
+        StreamingResponseBody body
+) {
+}
@@ -0,0 +1,45 @@
+package gyun.sample.domain.log.payload.response;
+
+import gyun.sample.domain.log.payload.dto.LogCursor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 활동 로그 Keyset 페이지 응답 (Slice 형태)
+ * - 전체 개수(COUNT)를 계산하지 않고, 다음 페이지 존재 여부와 다음 커서만 제공합니다.
+ */
+public record LogSliceResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor // 다음 페이지 요청 시 그대로 전달하는 불투명 토큰 (마지막 페이지면 null)
+) {
+    /**
+     * Slice -> 응답 변환 (마지막 행의 정렬 키로 다음 커서 생성)
+     *
+     * @param cursorOf 엔티티에서 정렬 키(createdAt, id)를 꺼내는 함수
+     */
+    public static <E, T> LogSliceResponse<T> from(Slice<E> slice, Function<E, T> mapper, Function<E, LogCursor> cursorOf) {
+        List<E> rows = slice.getContent();
+        String nextCursor = slice.hasNext() && !rows.isEmpty()
+                ? cursorOf.apply(rows.get(rows.size() - 1)).encode()
+                : null;
+
+        return new LogSliceResponse<>(
+                rows.stream().map(mapper).toList(),
+                slice.getSize(),
+                slice.hasNext(),
+                nextCursor
+        );
+    }
+
+    public static <T> LogSliceResponse<T> empty() {
+        return new LogSliceResponse<>(List.of(), 0, false, null);
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
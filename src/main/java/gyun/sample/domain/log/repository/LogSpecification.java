@@ -0,0 +1,67 @@
+package gyun.sample.domain.log.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import gyun.sample.domain.log.payload.dto.LogPeriod;
+import gyun.sample.domain.log.payload.request.MemberLogRequest;
+import gyun.sample.domain.log.payload.request.PostLogRequest;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+import static gyun.sample.domain.log.entity.QMemberLog.memberLog;
+import static gyun.sample.domain.log.entity.QPostLog.postLog;
+
+/**
+ * 활동 로그 검색 조건 생성
+ * - 기간 조건은 항상 포함합니다. (월 파티션 프루닝 + 복합 인덱스 (필터 컬럼, created_at, log_id) 범위 스캔)
+ * - 부분 일치 검색은 lower(컬럼) LIKE '%키워드%' 형태로 생성되어 pg_trgm GIN 인덱스를 사용합니다.
+ */
+public class LogSpecification {
+
+    public static Predicate searchMemberLog(MemberLogRequest request, LogPeriod period) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(memberLog.createdAt.goe(period.from()));
+        builder.and(memberLog.createdAt.lt(period.to()));
+
+        if (request.getLogType() != null) {
+            builder.and(memberLog.logType.eq(request.getLogType()));
+        }
+        if (request.getMemberId() != null) {
+            builder.and(memberLog.memberId.eq(request.getMemberId()));
+        }
+        if (StringUtils.hasText(request.getClientIp())) {
+            builder.and(memberLog.clientIp.eq(request.getClientIp().trim()));
+        }
+        if (StringUtils.hasText(request.getExecutorId())) {
+            builder.and(memberLog.createdBy.eq(request.getExecutorId().trim()));
+        }
+        if (StringUtils.hasText(request.getSearchWord())) {
+            builder.and(memberLog.loginId.lower().contains(request.getSearchWord().trim().toLowerCase(Locale.ROOT)));
+        }
+        return builder;
+    }
+
+    public static Predicate searchPostLog(PostLogRequest request, LogPeriod period) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(postLog.createdAt.goe(period.from()));
+        builder.and(postLog.createdAt.lt(period.to()));
+
+        if (request.getLogType() != null) {
+            builder.and(postLog.logType.eq(request.getLogType()));
+        }
+        if (request.getPostId() != null) {
+            builder.and(postLog.postId.eq(request.getPostId()));
+        }
+        if (StringUtils.hasText(request.getClientIp())) {
+            builder.and(postLog.clientIp.eq(request.getClientIp().trim()));
+        }
+        if (StringUtils.hasText(request.getExecutorId())) {
+            builder.and(postLog.executorId.eq(request.getExecutorId().trim()));
+        }
+        if (StringUtils.hasText(request.getSearchWord())) {
+            builder.and(postLog.postTitle.lower().contains(request.getSearchWord().trim().toLowerCase(Locale.ROOT)));
+        }
+        return builder;
+    }
+}
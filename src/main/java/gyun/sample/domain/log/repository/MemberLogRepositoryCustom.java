@@ -0,0 +1,27 @@
+package gyun.sample.domain.log.repository;
+
+import com.querydsl.core.types.Predicate;
+import gyun.sample.domain.log.entity.MemberLog;
+import gyun.sample.domain.log.payload.dto.LogCursor;
+import gyun.sample.domain.log.payload.dto.MemberLogExportRow;
+import org.springframework.data.domain.Slice;
+
+import java.util.stream.Stream;
+
+public interface MemberLogRepositoryCustom {
+
+    /**
+     * [성능 개선] Keyset(Seek) 페이지네이션 조회
+     * (createdAt DESC, id DESC) 정렬에서 커서 다음 행부터 size개를 조회합니다. OFFSET/COUNT 없음.
+     *
+     * @param cursor 직전 페이지의 마지막 행 위치 (null이면 첫 페이지)
+     */
+    Slice<MemberLog> findSlice(Predicate predicate, LogCursor cursor, int size);
+
+    /**
+     * [성능 개선] 내보내기용 전진 전용(forward-only) 스트리밍 조회
+     * - DTO 프로젝션이므로 영속성 컨텍스트에 쌓이지 않고, fetch size 단위로 DB 커서를 이동합니다.
+     * - 반드시 트랜잭션 안에서 소비하고 닫아야 합니다. (PostgreSQL은 autocommit이 꺼져 있어야 커서를 사용)
+     */
+    Stream<MemberLogExportRow> streamForExport(Predicate predicate, int fetchSize);
+}
@@ -0,0 +1,66 @@
+package gyun.sample.domain.log.repository;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import gyun.sample.domain.log.entity.MemberLog;
+import gyun.sample.domain.log.payload.dto.LogCursor;
+import gyun.sample.domain.log.payload.dto.MemberLogExportRow;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static gyun.sample.domain.log.entity.QMemberLog.memberLog;
+
+@RequiredArgsConstructor
+public class MemberLogRepositoryImpl implements MemberLogRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Slice<MemberLog> findSlice(Predicate predicate, LogCursor cursor, int size) {
+        // size + 1개를 조회하여 다음 페이지 존재 여부를 판단 (COUNT 쿼리 없음)
+        List<MemberLog> content = queryFactory
+                .selectFrom(memberLog)
+                .where(predicate, seekAfter(cursor))
+                .orderBy(memberLog.createdAt.desc(), memberLog.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public Stream<MemberLogExportRow> streamForExport(Predicate predicate, int fetchSize) {
+        // 기간 순(오래된 순)으로 파티션을 차례대로 읽음
+        return queryFactory
+                .select(Projections.constructor(MemberLogExportRow.class,
+                        memberLog.id, memberLog.createdAt, memberLog.logType, memberLog.loginId, memberLog.memberId,
+                        memberLog.createdBy, memberLog.clientIp, memberLog.details))
+                .from(memberLog)
+                .where(predicate)
+                .orderBy(memberLog.createdAt.asc(), memberLog.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    // createdAt < c.createdAt OR (createdAt = c.createdAt AND id < c.id)
+    private BooleanExpression seekAfter(LogCursor cursor) {
+        if (cursor == null) {
+            return null; // 첫 페이지
+        }
+        return memberLog.createdAt.lt(cursor.createdAt())
+                .or(memberLog.createdAt.eq(cursor.createdAt()).and(memberLog.id.lt(cursor.id())));
+    }
+}
@@ -0,0 +1,215 @@
+package gyun.sample.domain.log.service;
+
+import gyun.sample.domain.log.enums.LogOverflowPolicy;
+import gyun.sample.domain.log.payload.dto.ActivityLogEntry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활동 로그 배치 저장소 (member_log, post_log)
+ * - 이벤트마다 가상 스레드 + REQUIRES_NEW 트랜잭션 + 단건 INSERT를 실행하던 방식 대신,
+ * 고정 크기 대기열에 적재하고 전용 스레드 하나가 모아서 다중 행 INSERT로 저장합니다.
+ * - 로그 저장에 사용하는 DB 커넥션은 항상 최대 1개이므로, 로그인 폭주 시에도 실제 요청 처리용 커넥션을 잠식하지 않습니다.
+ * - ID는 INSERT 문에서 nextval로 발급합니다. 시퀀스 증가 단위가 50(JPA pooled 할당과 공유)이므로 연속되지 않지만 순서는 보장됩니다.
+ * - 대기열이 가득 차면 설정된 정책(LogOverflowPolicy)에 따라 처리하고 버린 건수를 지표로 노출합니다.
+ */
+@Slf4j
+@Component
+public class ActivityLogSink {
+
+    // 엔티티 @SequenceGenerator(allocationSize)와 동일해야 함
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String MEMBER_LOG_COLUMNS = "INSERT INTO member_log " +
+            "(log_id, login_id, member_id, log_type, details, client_ip, created_at, modified_at, created_by, last_modified_by) VALUES ";
+    private static final String MEMBER_LOG_ROW = "(nextval('member_log_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String POST_LOG_COLUMNS = "INSERT INTO post_log " +
+            "(log_id, post_id, post_title, executor_id, log_type, details, client_ip, created_at, modified_at, created_by, last_modified_by) VALUES ";
+    private static final String POST_LOG_ROW = "(nextval('post_log_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<ActivityLogEntry> queue;
+    private final LogOverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running = true;
+    private Thread writer;
+
+    public ActivityLogSink(JdbcTemplate jdbcTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.activity-log.queue-capacity:10000}") int queueCapacity,
+                           @Value("${app.activity-log.overflow-policy:DROP_NEWEST}") LogOverflowPolicy overflowPolicy,
+                           @Value("${app.activity-log.block-timeout-ms:50}") long blockTimeoutMillis,
+                           @Value("${app.activity-log.batch-size:500}") int batchSize,
+                           @Value("${app.activity-log.flush-interval-ms:1000}") long flushIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        Gauge.builder("activity.log.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        FunctionCounter.builder("activity.log.written", written, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("activity.log.dropped", dropped, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("activity.log.failed", failed, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * 스키마 준비(Hibernate DDL) 이후 시퀀스를 보정하고 저장 스레드를 시작합니다.
+     * 기동 중 발생한 로그는 대기열에 쌓여 있다가 시작 직후 저장됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        prepareSequence("member_log", "member_log_seq");
+        prepareSequence("post_log", "post_log_seq");
+        writer = Thread.ofPlatform().name("activity-log-writer").daemon(true).start(this::drainLoop);
+    }
+
+    // IDENTITY -> SEQUENCE 전환 시 기존 log_id와 겹치지 않도록 시퀀스를 현재 최대 ID 이후로 이동
+    private void prepareSequence(String table, String sequence) {
+        try {
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " INCREMENT BY " + ID_ALLOCATION_SIZE);
+            jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', GREATEST(" +
+                    "(SELECT COALESCE(MAX(log_id), 1) FROM " + table + "), (SELECT last_value FROM " + sequence + ")))", Long.class);
+        } catch (Exception e) {
+            log.error("[Activity Log] {} 시퀀스 준비 실패: {}", sequence, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 로그를 대기열에 적재합니다. (정책에 따라 버려질 수 있으며, 예외를 던지지 않습니다)
+     */
+    public void offer(ActivityLogEntry entry) {
+        if (queue.offer(entry)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                while (!queue.offer(entry)) {
+                    if (queue.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                }
+            }
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(entry, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                        dropped.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.incrementAndGet();
+                }
+            }
+            default -> dropped.incrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            // 남은 로그를 모두 저장할 때까지 대기 (최대 10초)
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("[Activity Log] 종료 - 저장: {}건, 버림: {}건, 실패: {}건, 미저장: {}건",
+                written.get(), dropped.get(), failed.get(), queue.size());
+    }
+
+    private void drainLoop() {
+        List<ActivityLogEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ActivityLogEntry first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<ActivityLogEntry> batch) {
+        List<ActivityLogEntry.Member> memberLogs = new ArrayList<>();
+        List<ActivityLogEntry.Post> postLogs = new ArrayList<>();
+        for (ActivityLogEntry entry : batch) {
+            switch (entry) {
+                case ActivityLogEntry.Member memberLog -> memberLogs.add(memberLog);
+                case ActivityLogEntry.Post postLog -> postLogs.add(postLog);
+            }
+        }
+
+        if (!memberLogs.isEmpty()) {
+            List<Object> params = new ArrayList<>(memberLogs.size() * 9);
+            for (ActivityLogEntry.Member e : memberLogs) {
+                Timestamp createdAt = Timestamp.valueOf(e.createdAt());
+                params.addAll(Arrays.asList(e.loginId(), e.memberId(), e.logType().name(), e.details(), e.clientIp(),
+                        createdAt, createdAt, e.auditor(), e.auditor()));
+            }
+            insert("member_log", MEMBER_LOG_COLUMNS + rows(MEMBER_LOG_ROW, memberLogs.size()), params, memberLogs.size());
+        }
+
+        if (!postLogs.isEmpty()) {
+            List<Object> params = new ArrayList<>(postLogs.size() * 10);
+            for (ActivityLogEntry.Post e : postLogs) {
+                Timestamp createdAt = Timestamp.valueOf(e.createdAt());
+                params.addAll(Arrays.asList(e.postId(), e.postTitle(), e.executorId(), e.logType().name(), e.details(),
+                        e.clientIp(), createdAt, createdAt, e.auditor(), e.auditor()));
+            }
+            insert("post_log", POST_LOG_COLUMNS + rows(POST_LOG_ROW, postLogs.size()), params, postLogs.size());
+        }
+    }
+
+    // 다중 행 INSERT 1회 실행 (실패한 배치는 재시도하지 않음: 같은 데이터로 무한 실패하는 것을 방지)
+    private void insert(String table, String sql, List<Object> params, int rowCount) {
+        try {
+            jdbcTemplate.update(sql, params.toArray());
+            written.addAndGet(rowCount);
+        } catch (Exception e) {
+            failed.addAndGet(rowCount);
+            log.error("[Activity Log] {} 배치 저장 실패 ({}건): {}", table, rowCount, e.getMessage(), e);
+        }
+    }
+
+    private static String rows(String row, int count) {
+        return String.join(", ", Collections.nCopies(count, row));
+    }
+}
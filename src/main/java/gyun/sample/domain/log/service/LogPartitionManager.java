@@ -0,0 +1,263 @@
+package gyun.sample.domain.log.service;
+
+import gyun.sample.domain.log.enums.LogRetentionAction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활동 로그(member_log, post_log) 월 단위 Range 파티션 관리
+ * - 일반 테이블 -> created_at 기준 Range 파티션 테이블 전환(기존 데이터 월별 이관)은 convert-on-startup=true일 때만 기동 시 한 번 실행합니다.
+ * 전환 중에는 ACCESS EXCLUSIVE 잠금으로 기동과 로그 저장이 멈추므로, 점검 시간에 한 번 켜거나 마이그레이션으로 적용합니다.
+ * 전환되지 않은 테이블은 일반 테이블로 그대로 동작합니다. (파티션 생성/보관 정책 미적용)
+ * - 매일 앞으로 사용할 파티션을 미리 만들고, 보관 기간이 지난 파티션은 삭제(DROP)하거나 분리(DETACH)합니다.
+ * - 조회 시 created_at 범위 조건이 있어야 파티션 프루닝이 적용됩니다. (ReadMemberLogService, ReadPostLogService)
+ * - 관리가 밀려 월 파티션이 없더라도 로그 저장이 실패하지 않도록 기본 파티션(테이블명_default)을 둡니다.
+ * 기본 파티션에 해당 월의 행이 쌓인 뒤 월 파티션을 만들 때는 한 트랜잭션에서 기본 파티션을 분리 -> 월 파티션 생성 -> 행 이동 -> 재연결합니다.
+ * - 관리 작업은 테이블마다 한 트랜잭션에서 advisory lock(pg_try_advisory_xact_lock)을 잡은 노드만 실행합니다. (다중 노드 동시 DDL 방지)
+ * - 알람: 실패 시 activity.log.partition.maintenance{result=failure} 증가, 기본 파티션 행 수는 activity.log.partition.default.rows로 노출합니다.
+ * (기본 파티션에 행이 있으면 미래 파티션 생성이 밀렸다는 뜻)
+ * - 기동 시 준비(prepare)는 SchemaInitializer가 로그 인덱스 생성 전에 호출합니다. (이미 파티션 테이블이면 전환 단계는 건너뜀)
+ */
+@Slf4j
+@Component
+public class LogPartitionManager {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final List<String> TABLES = List.of("member_log", "post_log");
+
+    // 파티션 관리 전용 advisory lock 키 (SchemaInitializer와 구분)
+    private static final long LOCK_KEY = 0x68_6F_6E_62_6F_62_02L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter maintenanceSuccess;
+    private final Counter maintenanceFailure;
+    // 마지막 관리 시점의 기본 파티션 행 수 (전 테이블 합계)
+    private final AtomicLong defaultPartitionRows = new AtomicLong();
+
+    @Value("${app.activity-log.partition.enabled:true}")
+    private boolean enabled;
+
+    // 기동 시 일반 테이블을 파티션 테이블로 전환 (기존 데이터 이관 동안 테이블 잠금, 명시적으로 켤 때만 실행)
+    @Value("${app.activity-log.partition.convert-on-startup:false}")
+    private boolean convertOnStartup;
+
+    // 현재 월 이후 미리 만들어 둘 파티션 수
+    @Value("${app.activity-log.partition.premake-months:3}")
+    private int premakeMonths;
+
+    // 현재 월을 포함해 보관할 개월 수 (0 이하면 보관 정책 미적용)
+    @Value("${app.activity-log.partition.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${app.activity-log.partition.retention-action:DETACH}")
+    private LogRetentionAction retentionAction;
+
+    public LogPartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maintenanceSuccess = Counter.builder("activity.log.partition.maintenance").tag("result", "success").register(meterRegistry);
+        this.maintenanceFailure = Counter.builder("activity.log.partition.maintenance").tag("result", "failure").register(meterRegistry);
+        Gauge.builder("activity.log.partition.default.rows", defaultPartitionRows, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * 로그 저장이 시작되기 전에 파티션 생성을 마칩니다. (SchemaInitializer에서 동기 호출)
+     * 전환은 convert-on-startup=true일 때만 실행하며, 꺼져 있으면 일반 테이블임을 알리기만 합니다.
+     */
+    public void prepare() {
+        if (!enabled) {
+            return;
+        }
+        for (String table : TABLES) {
+            try {
+                if (convertOnStartup) {
+                    convertIfNeeded(table);
+                } else if ("r".equals(relKind(table))) {
+                    log.warn("[Log Partition] {}는 일반 테이블입니다. 파티션 전환은 점검 시간에 "
+                            + "app.activity-log.partition.convert-on-startup=true로 기동하거나 마이그레이션으로 적용하세요.", table);
+                }
+            } catch (Exception e) {
+                log.error("[Log Partition] {} 파티션 전환 실패, 일반 테이블로 동작합니다: {}", table, e.getMessage(), e);
+            }
+        }
+        maintain();
+    }
+
+    /**
+     * 미래 파티션 생성 + 보관 정책 적용 (매일, 테이블마다 advisory lock을 잡은 한 노드만 실행)
+     */
+    @Scheduled(cron = "${app.activity-log.partition.maintenance-cron:0 10 0 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        long defaultRows = 0;
+        for (String table : TABLES) {
+            try {
+                Long rows = transactionTemplate.execute(status -> {
+                    if (!isPartitioned(table)) {
+                        return 0L;
+                    }
+                    if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(" + LOCK_KEY + ")", Boolean.class))) {
+                        log.debug("[Log Partition] {} 다른 노드가 관리 중이므로 건너뜀", table);
+                        return 0L;
+                    }
+                    createDefaultPartition(table);
+                    for (int i = 0; i <= premakeMonths; i++) {
+                        createPartition(table, current.plusMonths(i));
+                    }
+                    applyRetention(table, current);
+                    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + defaultPartitionName(table), Long.class);
+                });
+                defaultRows += rows != null ? rows : 0L;
+                maintenanceSuccess.increment();
+            } catch (Exception e) {
+                maintenanceFailure.increment();
+                log.error("[Log Partition] {} 파티션 관리 실패 (기본 파티션에 저장되며 다음 관리 시 이동): {}", table, e.getMessage(), e);
+            }
+        }
+        defaultPartitionRows.set(defaultRows);
+        if (defaultRows > 0) {
+            log.warn("[Log Partition] 기본 파티션에 {}건이 있습니다. 월 파티션 생성이 밀렸는지 확인하세요.", defaultRows);
+        }
+    }
+
+    // 일반 테이블 -> 파티션 테이블 전환 (한 트랜잭션, 테이블 잠금으로 다중 노드 동시 전환 방지)
+    private void convertIfNeeded(String table) {
+        transactionTemplate.executeWithoutResult(status -> {
+            String relKind = relKind(table);
+            if (relKind == null || "p".equals(relKind)) {
+                return;
+            }
+            String legacy = table + "_legacy";
+            jdbcTemplate.execute("LOCK TABLE " + table + " IN ACCESS EXCLUSIVE MODE");
+            // 잠금 대기 중 다른 노드가 먼저 전환했을 수 있으므로 다시 확인
+            if ("p".equals(relKind(table))) {
+                return;
+            }
+
+            long start = System.currentTimeMillis();
+            jdbcTemplate.update("UPDATE " + table + " SET created_at = COALESCE(modified_at, now()) WHERE created_at IS NULL");
+            jdbcTemplate.execute("ALTER TABLE " + table + " RENAME TO " + legacy);
+            // 기존 PK/인덱스는 이관 후 레거시 테이블과 함께 삭제되고, 인덱스는 SchemaInitializer(db/schema/02-activity-log-index.sql)가 부모 테이블에 다시 생성
+            jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE " + legacy + " INCLUDING DEFAULTS INCLUDING COMMENTS) "
+                    + "PARTITION BY RANGE (created_at)");
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN created_at SET NOT NULL");
+            // 파티션 테이블의 PK는 파티션 키를 포함해야 함
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT pk_" + table + " PRIMARY KEY (log_id, created_at)");
+
+            Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + legacy, Timestamp.class);
+            YearMonth from = oldest != null ? YearMonth.from(oldest.toLocalDateTime()) : YearMonth.now();
+            for (YearMonth month = from; !month.isAfter(YearMonth.now()); month = month.plusMonths(1)) {
+                createPartition(table, month);
+            }
+            createDefaultPartition(table);
+
+            int moved = jdbcTemplate.update("INSERT INTO " + table + " SELECT * FROM " + legacy);
+            jdbcTemplate.execute("DROP TABLE " + legacy);
+            log.info("[Log Partition] {} 파티션 테이블 전환 완료: {}건 이관 ({}ms)", table, moved, System.currentTimeMillis() - start);
+        });
+    }
+
+    private void createDefaultPartition(String table) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + defaultPartitionName(table) + " PARTITION OF " + table + " DEFAULT");
+    }
+
+    // 기본 파티션에 해당 범위 행이 있으면 월 파티션 생성이 실패하므로 분리 -> 생성 -> 이동 -> 재연결 (호출자 트랜잭션 안에서 실행)
+    private void createPartition(String table, YearMonth month) {
+        String partition = partitionName(table, month);
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        String bounds = " FOR VALUES FROM ('" + from + "') TO ('" + to + "')";
+        String range = " WHERE created_at >= '" + from + "' AND created_at < '" + to + "'";
+        String defaultPartition = defaultPartitionName(table);
+
+        boolean needsSplit = relKind(partition) == null && relKind(defaultPartition) != null
+                && Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + defaultPartition + range + ")", Boolean.class));
+        if (!needsSplit) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table + bounds);
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + defaultPartition);
+        jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + table + bounds);
+        int moved = jdbcTemplate.update("INSERT INTO " + partition + " SELECT * FROM " + defaultPartition + range);
+        jdbcTemplate.update("DELETE FROM " + defaultPartition + range);
+        jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + defaultPartition + " DEFAULT");
+        log.warn("[Log Partition] 기본 파티션의 {}건을 {}로 이동했습니다.", moved, partition);
+    }
+
+    private void applyRetention(String table, YearMonth current) {
+        if (retentionMonths <= 0) {
+            return;
+        }
+        YearMonth oldestKept = current.minusMonths(retentionMonths - 1L);
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass(?)", String.class, table);
+
+        for (String partition : partitions) {
+            YearMonth month = parseMonth(table, partition);
+            if (month == null || !month.isBefore(oldestKept)) {
+                continue;
+            }
+            if (retentionAction == LogRetentionAction.DROP) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            } else {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+            }
+            log.info("[Log Partition] 보관 기간 경과 파티션 처리: {} ({})", partition, retentionAction);
+        }
+    }
+
+    // 'r': 일반 테이블, 'p': 파티션 테이블, null: 없음
+    private String relKind(String table) {
+        return jdbcTemplate.queryForList("SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)", String.class, table)
+                .stream().findFirst().orElse(null);
+    }
+
+    private boolean isPartitioned(String table) {
+        return "p".equals(relKind(table));
+    }
+
+    private static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX);
+    }
+
+    private static String defaultPartitionName(String table) {
+        return table + "_default";
+    }
+
+    // 이 관리자가 만든 이름(테이블명_pYYYYMM)만 대상으로 함
+    private static YearMonth parseMonth(String table, String partition) {
+        String prefix = table + "_p";
+        if (!partition.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(prefix.length()), SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -1,50 +1,46 @@
 package gyun.sample.domain.log.service;
 
-import gyun.sample.domain.log.entity.MemberLog;
 import gyun.sample.domain.log.event.MemberActivityEvent;
-import gyun.sample.domain.log.repository.MemberLogRepository;
+import gyun.sample.domain.log.payload.dto.ActivityLogEntry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MemberLogEventListener {
 
-    private final MemberLogRepository memberLogRepository;
+    private final ActivityLogSink activityLogSink;
+    private final AuditorAware<String> auditorAware;
 
     /**
      * 회원 활동 이벤트 리스너
-     * 메인 트랜잭션과 분리하여 저장하거나, 비동기로 처리하여 성능 영향을 최소화합니다.
+     * [성능 개선] 이벤트마다 비동기 스레드 + 별도 트랜잭션으로 단건 저장하던 방식 대신,
+     * 배치 저장소(ActivityLogSink) 대기열에 적재만 하고 즉시 반환합니다. (DB 커넥션 사용 없음)
      */
-    @Async
     @EventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleMemberActivityEvent(MemberActivityEvent event) {
         try {
-            // executorId 파라미터 제거
-            MemberLog logEntity = new MemberLog(
+            // 수행자(createdBy)는 요청 스레드의 SecurityContext 기준으로 적재 시점에 확정
+            String auditor = auditorAware.getCurrentAuditor().orElse("SYSTEM");
+            activityLogSink.offer(new ActivityLogEntry.Member(
                     event.loginId(),
                     event.memberId(),
                     event.logType(),
                     event.details(),
-                    event.clientIp()
-            );
-
-            // save 호출 시 JpaAuditing에 의해 createdBy(수행자)가 자동으로 채워짐
-            // (AsyncConfig의 TaskDecorator 덕분에 비동기 스레드에서도 SecurityContext 접근 가능)
-            memberLogRepository.save(logEntity);
+                    event.clientIp(),
+                    auditor,
+                    LocalDateTime.now()
+            ));
 
-            // 로그 출력 시에는 createdBy를 아직 알 수 없으므로(save 전/후 flush 필요)
-            // SecurityContext에서 직접 꺼내거나, 단순히 "Recorded" 등으로 남김
             log.info("[Activity Log] Target: {}, Action: {}", event.loginId(), event.logType());
         } catch (Exception e) {
-            log.error("로그 저장 중 오류 발생: {}", e.getMessage(), e);
+            log.error("로그 적재 중 오류 발생: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,46 +1,47 @@
 package gyun.sample.domain.log.service;
 
-import gyun.sample.domain.log.entity.PostLog;
 import gyun.sample.domain.log.event.PostActivityEvent;
-import gyun.sample.domain.log.repository.PostLogRepository;
+import gyun.sample.domain.log.payload.dto.ActivityLogEntry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PostLogEventListener {
 
-    private final PostLogRepository postLogRepository;
+    private final ActivityLogSink activityLogSink;
+    private final AuditorAware<String> auditorAware;
 
     /**
      * 게시글 활동 이벤트 리스너
-     * 비동기로 실행되며, 메인 로직의 트랜잭션과 분리되어 로그를 저장합니다.
+     * [성능 개선] 배치 저장소(ActivityLogSink) 대기열에 적재만 하고 즉시 반환합니다.
+     * 실제 저장은 전용 스레드가 다중 행 INSERT로 모아서 처리합니다.
      */
-    @Async
     @EventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handlePostActivityEvent(PostActivityEvent event) {
         try {
-            PostLog logEntity = new PostLog(
+            String auditor = auditorAware.getCurrentAuditor().orElse("SYSTEM");
+            activityLogSink.offer(new ActivityLogEntry.Post(
                     event.postId(),
                     event.postTitle(),
                     event.executorId(),
                     event.logType(),
                     event.details(),
-                    event.clientIp()
-            );
-            postLogRepository.save(logEntity);
+                    event.clientIp(),
+                    auditor,
+                    LocalDateTime.now()
+            ));
 
             log.info("[Post Log] ID: {}, Title: {}, Executor: {}, Action: {}",
                     event.postId(), event.postTitle(), event.executorId(), event.logType());
         } catch (Exception e) {
-            log.error("게시글 로그 저장 중 오류 발생: {}", e.getMessage(), e);
+            log.error("게시글 로그 적재 중 오류 발생: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package gyun.sample.domain.log.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import gyun.sample.domain.log.enums.LogExportFormat;
+import gyun.sample.domain.log.payload.dto.LogPeriod;
+import gyun.sample.domain.log.payload.dto.MemberLogExportRow;
+import gyun.sample.domain.log.payload.dto.PostLogExportRow;
+import gyun.sample.domain.log.payload.request.MemberLogRequest;
+import gyun.sample.domain.log.payload.request.PostLogRequest;
+import gyun.sample.domain.log.payload.response.LogExportResponse;
+import gyun.sample.domain.log.repository.LogSpecification;
+import gyun.sample.domain.log.repository.MemberLogRepository;
+import gyun.sample.domain.log.repository.PostLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 활동 로그 스트리밍 내보내기 (CSV / NDJSON, 선택적 gzip)
+ * [성능 개선] 페이지 단위로 목록을 메모리에 올리지 않고, DB 커서(fetch size) -> 행 변환 -> 응답 스트림으로 한 행씩 흘려보냅니다.
+ * - 행 수와 관계없이 힙 사용량은 fetch size 만큼의 행과 출력 버퍼 크기로 고정됩니다.
+ * - 응답은 StreamingResponseBody로 별도 스레드에서 작성되며, 그 스레드에서 읽기 전용 트랜잭션을 엽니다.
+ */
+@Slf4j
+@Service
+public class LogExportService {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final MemberLogRepository memberLogRepository;
+    private final PostLogRepository postLogRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter ndjsonWriter;
+
+    // DB 커서 한 번에 가져올 행 수
+    @Value("${app.activity-log.export.fetch-size:1000}")
+    private int fetchSize;
+
+    // 기간 미지정 시 기본 조회 기간(일)
+    @Value("${app.activity-log.query.default-days:30}")
+    private int defaultDays;
+
+    public LogExportService(MemberLogRepository memberLogRepository,
+                            PostLogRepository postLogRepository,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper) {
+        this.memberLogRepository = memberLogRepository;
+        this.postLogRepository = postLogRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 공용 ObjectMapper 설정(들여쓰기 등)과 무관하게 항상 한 줄로 출력
+        this.ndjsonWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public LogExportResponse exportMemberLogs(MemberLogRequest request, LogExportFormat format, boolean gzip) {
+        LogPeriod period = LogPeriod.of(request.getStartDate(), request.getEndDate(), defaultDays);
+        return export("member_log", period, format, gzip, MemberLogExportRow.CSV_HEADER, MemberLogExportRow::csvValues,
+                () -> memberLogRepository.streamForExport(LogSpecification.searchMemberLog(request, period), fetchSize));
+    }
+
+    public LogExportResponse exportPostLogs(PostLogRequest request, LogExportFormat format, boolean gzip) {
+        LogPeriod period = LogPeriod.of(request.getStartDate(), request.getEndDate(), defaultDays);
+        return export("post_log", period, format, gzip, PostLogExportRow.CSV_HEADER, PostLogExportRow::csvValues,
+                () -> postLogRepository.streamForExport(LogSpecification.searchPostLog(request, period), fetchSize));
+    }
+
+    private <T> LogExportResponse export(String table, LogPeriod period, LogExportFormat format, boolean gzip,
+                                         List<String> csvHeader, Function<T, List<Object>> csvValues,
+                                         Supplier<Stream<T>> rows) {
+        // 종료 시각은 배타 범위이므로 파일명에는 하루 전 날짜를 사용
+        String fileName = table + "_" + period.from().format(FILE_DATE) + "_" + period.to().minusDays(1).format(FILE_DATE)
+                + "." + format.getExtension() + (gzip ? ".gz" : "");
+        String contentType = gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8";
+
+        return new LogExportResponse(fileName, contentType, outputStream -> {
+            long start = System.currentTimeMillis();
+            long[] count = {0};
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    if (format == LogExportFormat.CSV) {
+                        target.write(UTF8_BOM); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+                        writeCsvLine(writer, csvHeader);
+                    }
+                    for (T row : (Iterable<T>) stream::iterator) {
+                        if (format == LogExportFormat.CSV) {
+                            writeCsvLine(writer, csvValues.apply(row));
+                        } else {
+                            writer.write(ndjsonWriter.writeValueAsString(row));
+                            writer.write('\n');
+                        }
+                        count[0]++;
+                    }
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등: 커서와 트랜잭션을 정리하고 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            log.info("[Log Export] {} 내보내기 완료: {}건 ({}ms)", fileName, count[0], System.currentTimeMillis() - start);
+        });
+    }
+
+    // RFC 4180: 구분자/따옴표/줄바꿈이 포함된 값은 큰따옴표로 감싸고 내부 따옴표는 두 번 씀
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            String text = value.toString();
+            // 스프레드시트 수식 주입 방지: 수식 시작 문자로 시작하는 값은 앞에 작은따옴표 추가
+            if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
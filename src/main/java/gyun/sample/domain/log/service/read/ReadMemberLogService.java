@@ -1,14 +1,17 @@
 package gyun.sample.domain.log.service.read;
 
+import com.querydsl.core.types.Predicate;
 import gyun.sample.domain.log.entity.MemberLog;
+import gyun.sample.domain.log.payload.dto.LogCursor;
+import gyun.sample.domain.log.payload.dto.LogPeriod;
 import gyun.sample.domain.log.payload.request.MemberLogRequest;
+import gyun.sample.domain.log.payload.response.LogSliceResponse;
 import gyun.sample.domain.log.payload.response.MemberLogResponse;
+import gyun.sample.domain.log.repository.LogSpecification;
 import gyun.sample.domain.log.repository.MemberLogRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,25 +22,22 @@ public class ReadMemberLogService {
 
     private final MemberLogRepository memberLogRepository;
 
+    // 기간 미지정 시 기본 조회 기간(일)
+    @Value("${app.activity-log.query.default-days:30}")
+    private int defaultDays;
+
     /**
      * 회원 활동 로그 목록 조회
-     * - 생성일 기준 내림차순 정렬
-     * - 검색어(loginId)가 있으면 필터링
+     * - 생성일 기준 내림차순 정렬, Keyset(커서) 페이지네이션 (OFFSET/COUNT 없음)
+     * - 조회 기간(기본: 최근 30일)에 해당하는 월 파티션만 조회
+     * - 검색어(loginId), 활동 유형, IP, 대상 ID, 수행자 조건으로 필터링
      */
-    public Page<MemberLogResponse> getMemberLogs(MemberLogRequest request) {
-        // 페이지는 0부터 시작하므로 page - 1 처리
-        Pageable pageable = PageRequest.of(request.getPage() - 1, request.getSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        Page<MemberLog> logs;
+    public LogSliceResponse<MemberLogResponse> getMemberLogs(MemberLogRequest request) {
+        LogPeriod period = LogPeriod.of(request.getStartDate(), request.getEndDate(), defaultDays);
+        Predicate predicate = LogSpecification.searchMemberLog(request, period);
 
-        // 검색어가 존재하는 경우 필터링 조회
-        if (request.getSearchWord() != null && !request.getSearchWord().isBlank()) {
-            logs = memberLogRepository.findByLoginIdContainingIgnoreCase(request.getSearchWord(), pageable);
-        } else {
-            // 검색어가 없으면 전체 조회
-            logs = memberLogRepository.findAll(pageable);
-        }
+        Slice<MemberLog> logs = memberLogRepository.findSlice(predicate, LogCursor.decode(request.getCursor()), request.getSize());
 
-        return logs.map(MemberLogResponse::new);
+        return LogSliceResponse.from(logs, MemberLogResponse::new, log -> new LogCursor(log.getCreatedAt(), log.getId()));
     }
-}
\ No newline at end of file
+}
@@ -363,9 +363,10 @@ public class MemberController {
         Member updatedMember = readService.getByLoginIdAndRole(loginId, role);
 
         PrincipalDetails newPrincipal = new PrincipalDetails(updatedMember);
+        newPrincipal.eraseCredentials(); // 세션에 비밀번호 해시를 남기지 않음
         Authentication newAuth = new UsernamePasswordAuthenticationToken(
                 newPrincipal,
-                newPrincipal.getPassword(),
+                null,
                 newPrincipal.getAuthorities()
         );
 
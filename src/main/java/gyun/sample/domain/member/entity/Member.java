@@ -10,7 +10,11 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -19,9 +23,16 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * [성능 개선] 2차 캐시 대상 (인증 경로의 ID/로그인 ID 조회)
+ * - READ_WRITE 전략: update/withdraw/changeRole/updatePassword 등 변경 사항은 커밋 시점에 캐시 항목이 갱신(무효화)됩니다.
+ * - 로그인 ID는 Natural ID로 매핑하여 로그인 ID -> 회원 ID 해석도 캐시합니다. (MemberRepositoryImpl.findByLoginId)
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
+@NaturalIdCache(region = "member-login-id")
 public class Member extends BaseTimeEntity implements Serializable {
 
     @Serial
@@ -33,6 +44,7 @@ public class Member extends BaseTimeEntity implements Serializable {
     @Comment("유저 아이디")
     private long id;
 
+    @NaturalId(mutable = true) // 탈퇴 시 변경되므로 mutable
     @Column(unique = true) // 변경 가능하도록 updatable = false 제거 (탈퇴 시 변경 위해)
     @Comment("유저 로그인 아이디")
     private String loginId;
@@ -70,6 +82,11 @@ public class Member extends BaseTimeEntity implements Serializable {
     @Column(columnDefinition = "text")
     private String refreshToken;
 
+    // [성능 개선] 세션에는 엔티티 대신 PrincipalDetails 스냅샷을 저장하므로, 스냅샷 갱신 필요 여부를 이 값으로 판단
+    @Column(columnDefinition = "bigint default 0 not null")
+    @Comment("세션 정보 버전 (닉네임/권한/상태/비밀번호 변경 시 증가)")
+    private long sessionVersion;
+
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
     private final transient List<MemberImage> memberImages = new ArrayList<>();
 
@@ -95,11 +112,18 @@ public class Member extends BaseTimeEntity implements Serializable {
 
     public void updatePassword(String password) {
         this.password = password;
+        increaseSessionVersion();
+    }
+
+    // 같은 비밀번호의 해시 형식/강도만 갱신 (로그인 시 재해시) - 비밀번호 변경이 아니므로 세션 스냅샷은 유지
+    public void upgradePasswordHash(String encodedPassword) {
+        this.password = encodedPassword;
     }
 
     // 더티 체킹을 위한 회원 정보 수정
     public void update(MemberUpdateRequest request) {
         this.nickName = request.nickName();
+        increaseSessionVersion();
     }
 
     // 회원 탈퇴 처리 (Soft Delete + Unique Key 회피)
@@ -110,6 +134,7 @@ public class Member extends BaseTimeEntity implements Serializable {
         this.nickName = this.nickName + "_LEAVE_" + nowStr;
         this.socialToken = null;
         this.refreshToken = null;
+        increaseSessionVersion();
         // socialKey는 유지하되, 재가입 시 중복 체크 로직에서 Active 상태인 것만 조회하도록 쿼리 조정 필요
     }
 
@@ -124,9 +149,16 @@ public class Member extends BaseTimeEntity implements Serializable {
     // Active 상태 변경 Setter (필요 시 사용)
     public void setActive(GlobalActiveEnums active) {
         this.active = active;
+        increaseSessionVersion();
     }
 
     public void changeRole(AccountRole newRole) {
         this.role = newRole;
+        increaseSessionVersion();
+    }
+
+    // 로그인 세션의 회원 스냅샷(PrincipalDetails)을 다시 만들도록 버전 증가
+    private void increaseSessionVersion() {
+        this.sessionVersion++;
     }
 }
\ No newline at end of file
@@ -12,11 +12,15 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long>, QuerydslPredicateExecutor<Member> {
+public interface MemberRepository extends JpaRepository<Member, Long>, QuerydslPredicateExecutor<Member>, MemberRepositoryCustom {
 
-    Optional<Member> findByLoginId(String loginId);
-
-    Optional<Member> findByLoginIdAndRole(String loginId, AccountRole role);
+    /**
+     * [성능 개선] 로그인 ID + 권한 조회
+     * Natural ID 캐시로 회원을 찾은 뒤 권한을 비교합니다. (JPQL 조회는 2차 캐시를 사용하지 않음)
+     */
+    default Optional<Member> findByLoginIdAndRole(String loginId, AccountRole role) {
+        return findByLoginId(loginId).filter(member -> member.getRole() == role);
+    }
 
     Optional<Member> findBySocialKeyAndRoleAndActiveAndMemberType(String socialKey, AccountRole role, GlobalActiveEnums active, MemberType memberType);
 
@@ -28,9 +32,16 @@ public interface MemberRepository extends JpaRepository<Member, Long>, QuerydslP
 
     boolean existsByRole(AccountRole role);
 
-    Optional<Member> findByIdAndRoleIn(long id, List<AccountRole> accountRoles);
+    // [성능 개선] 아래 조회는 모두 2차 캐시(findById / Natural ID)를 거친 뒤 권한을 비교
+    default Optional<Member> findByIdAndRoleIn(long id, List<AccountRole> accountRoles) {
+        return findById(id).filter(member -> accountRoles.contains(member.getRole()));
+    }
 
-    Optional<Member> findByIdAndRole(long id, AccountRole accountRole);
+    default Optional<Member> findByIdAndRole(long id, AccountRole accountRole) {
+        return findById(id).filter(member -> member.getRole() == accountRole);
+    }
 
-    Optional<Member> findByLoginIdAndRoleIn(String loginId, List<AccountRole> accountRoles);
+    default Optional<Member> findByLoginIdAndRoleIn(String loginId, List<AccountRole> accountRoles) {
+        return findByLoginId(loginId).filter(member -> accountRoles.contains(member.getRole()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package gyun.sample.domain.member.repository;
+
+import com.querydsl.core.types.Predicate;
+import gyun.sample.domain.member.entity.Member;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface MemberRepositoryCustom {
+    /**
+     * [성능 개선] 회원 목록 조회 (전체 개수는 COUNT 캐시를 통해 재사용)
+     * 동일한 검색 조건으로 페이지만 이동하는 경우 COUNT(*) 쿼리를 반복 실행하지 않습니다.
+     */
+    Page<Member> findAllWithCachedCount(Predicate predicate, Pageable pageable);
+
+    /**
+     * [성능 개선] 로그인 ID(Natural ID) 조회
+     * 로그인 ID -> 회원 ID는 Natural ID 캐시, 회원 상태는 엔티티 2차 캐시에서 읽으므로 반복 로그인 시 DB를 조회하지 않습니다.
+     * 반환되는 엔티티는 현재 영속성 컨텍스트에 관리되는 객체이므로 변경 감지가 그대로 동작합니다.
+     * (Session API를 사용하므로 트랜잭션 밖에서 호출해도 세션이 유지되도록 읽기 전용 트랜잭션 적용)
+     */
+    @Transactional(readOnly = true)
+    Optional<Member> findByLoginId(String loginId);
+}
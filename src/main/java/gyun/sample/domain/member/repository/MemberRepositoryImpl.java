@@ -0,0 +1,73 @@
+package gyun.sample.domain.member.repository;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import gyun.sample.domain.member.entity.Member;
+import gyun.sample.global.cache.CountRegion;
+import gyun.sample.global.cache.ListCountCache;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static gyun.sample.domain.member.entity.QMember.member;
+
+@RequiredArgsConstructor
+public class MemberRepositoryImpl implements MemberRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final ListCountCache listCountCache;
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Member> findAllWithCachedCount(Predicate predicate, Pageable pageable) {
+        List<Member> content = queryFactory
+                .selectFrom(member)
+                .where(predicate)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(member.count())
+                .from(member)
+                .where(predicate);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> listCountCache.getCount(CountRegion.MEMBER, predicate, countQuery::fetchOne));
+    }
+
+    @Override
+    public Optional<Member> findByLoginId(String loginId) {
+        if (loginId == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(loginId);
+    }
+
+    // Sort 객체를 QueryDSL OrderSpecifier로 변환 (createdAt 동률 시 id로 순서 고정)
+    private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        sort.forEach(order -> {
+            Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+            if (order.getProperty().equals("createdAt")) {
+                orders.add(new OrderSpecifier<>(direction, member.createdAt));
+                orders.add(new OrderSpecifier<>(direction, member.id));
+            }
+        });
+        return orders.toArray(new OrderSpecifier[0]);
+    }
+}
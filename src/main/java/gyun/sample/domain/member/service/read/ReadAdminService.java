@@ -51,7 +51,7 @@ public class ReadAdminService extends AbstractReadMemberService {
 
         // QueryDSL Predicate 사용
         Predicate predicate = MemberSpecification.searchMember(request, roles);
-        Page<Member> memberList = memberRepository.findAll(predicate, pageable);
+        Page<Member> memberList = memberRepository.findAllWithCachedCount(predicate, pageable);
 
         return memberList.map(MemberListResponse::new);
     }
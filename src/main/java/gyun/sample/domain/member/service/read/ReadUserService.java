@@ -58,7 +58,7 @@ public class ReadUserService extends AbstractReadMemberService {
 
         // 4. QueryDSL Predicate 생성 및 조회
         Predicate predicate = MemberSpecification.searchMember(request, roles);
-        Page<Member> memberPage = memberRepository.findAll(predicate, pageable);
+        Page<Member> memberPage = memberRepository.findAllWithCachedCount(predicate, pageable);
 
         // 5. DTO 변환 후 반환
         return memberPage.map(MemberListResponse::new);
@@ -1,81 +1,120 @@
 package gyun.sample.domain.sitemap.controller;
 
-import gyun.sample.domain.board.enums.PostType;
-import gyun.sample.domain.board.repository.PostRepository;
-import gyun.sample.global.enums.GlobalActiveEnums;
+import gyun.sample.domain.sitemap.payload.dto.SitemapFile;
+import gyun.sample.domain.sitemap.service.SitemapService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
+/**
+ * 사이트맵 (sitemapindex + 고정 페이지 + 게시글 ID 구간별 샤드)
+ * [성능 개선] SitemapService가 디스크에 미리 만든 gzip 파일을 그대로 전송합니다. (요청 시 DB 조회 없음)
+ * - ETag는 압축 전 XML 내용의 해시(노드 무관)이며, gzip 전송본은 다른 표현이므로 "-gz"를 붙여 구분합니다.
+ * If-None-Match / If-Modified-Since가 일치하면 304 (본문 없음)
+ * - gzip을 받는 클라이언트(대부분의 크롤러)에는 파일을 그대로, 그 외 클라이언트에는 압축을 풀면서 전송합니다.
+ * 두 경우 모두 Resource(길이 확정)로 반환하므로 Range 요청(206, 부분 전송)도 처리됩니다.
+ * - 기동 직후 첫 생성이 끝나기 전에는 요청에서 생성하지 않고 503(Retry-After)으로 응답합니다.
+ */
 @RestController
 @RequiredArgsConstructor
 public class SitemapController {
 
-    private final PostRepository postRepository;
-
-    @GetMapping(value = "/sitemap.xml", produces = MediaType.APPLICATION_XML_VALUE)
-    public String sitemap() {
-        StringBuilder xml = new StringBuilder();
-        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-        xml.append("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
-
-        // 1. 메인 페이지
-        addUrl(xml, "https://honbob-house.com/", "1.0", LocalDateTime.now());
-
-        // 2. 게시판 목록 페이지
-        addUrl(xml, "https://honbob-house.com/board/free/list", "0.8", LocalDateTime.now());
-        addUrl(xml, "https://honbob-house.com/board/suggestion/list", "0.8", LocalDateTime.now());
-
-        // 3. 게시글 상세 페이지
-        // [수정] 구글 사이트맵 최대 URL 허용량은 50,000개입니다.
-        // 기존 3,000개 제한은 서비스 성장 시 이전 글이 누락될 수 있으므로 50,000개로 확장합니다.
-        // 필요한 필드만 조회하므로 메모리 부하는 크지 않습니다.
-        List<Object[]> postsData = postRepository.findSitemapData(
-                GlobalActiveEnums.ACTIVE,
-                PageRequest.of(0, 50000)
-        );
-
-        for (Object[] row : postsData) {
-            Long id = (Long) row[0];
-            PostType postType = (PostType) row[1];
-            LocalDateTime createdAt = (LocalDateTime) row[2];
-            LocalDateTime modifiedAt = (LocalDateTime) row[3];
-
-            if (postType != null) {
-                String loc = "https://honbob-house.com/board/" + postType.name().toLowerCase() + "/detail/" + id;
-                LocalDateTime lastModTime = modifiedAt != null ? modifiedAt : createdAt;
-                addUrl(xml, loc, "0.6", lastModTime);
-            }
-        }
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+    private static final String RETRY_AFTER_SECONDS = "60";
+
+    private final SitemapService sitemapService;
 
-        xml.append("</urlset>");
-        return xml.toString();
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<Resource> sitemapIndex(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) throws IOException {
+        return serve(sitemapService.getIndex(), acceptEncoding);
     }
 
-    private void addUrl(StringBuilder xml, String loc, String priority, LocalDateTime lastModTime) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        String lastMod = lastModTime.format(formatter);
+    @GetMapping("/sitemap-static.xml")
+    public ResponseEntity<Resource> staticSitemap(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) throws IOException {
+        return serve(sitemapService.getStatic(), acceptEncoding);
+    }
 
-        xml.append("  <url>\n");
-        xml.append("    <loc>").append(escapeXml(loc)).append("</loc>\n");
-        xml.append("    <lastmod>").append(lastMod).append("</lastmod>\n");
-        xml.append("    <changefreq>daily</changefreq>\n");
-        xml.append("    <priority>").append(priority).append("</priority>\n");
-        xml.append("  </url>\n");
+    @GetMapping("/sitemap-posts-{shard}.xml")
+    public ResponseEntity<Resource> postSitemap(@PathVariable long shard,
+                                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) throws IOException {
+        return serve(sitemapService.getPostShard(shard), acceptEncoding);
     }
 
-    private String escapeXml(String input) {
-        if (input == null) return "";
-        return input.replace("&", "&amp;")
-                .replace("'", "&apos;")
-                .replace("\"", "&quot;")
-                .replace("<", "&lt;")
-                .replace(">", "&gt;");
+    private ResponseEntity<Resource> serve(Optional<SitemapFile> file, String acceptEncoding) throws IOException {
+        if (!sitemapService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+        if (file.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Path path = file.get().path();
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        // 같은 내용이라도 content-coding이 다르면 다른 강한 검증값을 사용 (Range/If-Range 정합성)
+        String etag = "\"" + file.get().digest() + (gzip ? "-gz" : "") + "\"";
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.APPLICATION_XML, StandardCharsets.UTF_8))
+                .cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(etag)
+                .lastModified(Files.getLastModifiedTime(path).toMillis());
+
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(new FileSystemResource(path));
+        }
+        return builder.body(new GunzippedResource(path, file.get().size()));
+    }
+
+    // gzip 파일을 읽으면서 압축을 푸는 Resource (압축 전 크기를 알고 있으므로 Content-Length/Range 처리 가능)
+    private static final class GunzippedResource extends AbstractResource {
+
+        private final Path path;
+        private final long size;
+
+        GunzippedResource(Path path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new GZIPInputStream(Files.newInputStream(path));
+        }
+
+        @Override
+        public boolean exists() {
+            return Files.isRegularFile(path);
+        }
+
+        @Override
+        public long contentLength() {
+            return size;
+        }
+
+        @Override
+        public String getDescription() {
+            return "gunzipped [" + path + "]";
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package gyun.sample.domain.sitemap.payload.dto;
+
+import java.nio.file.Path;
+
+/**
+ * 미리 생성한 사이트맵 파일
+ *
+ * @param path   gzip 파일 경로
+ * @param digest 압축 전 XML 내용의 해시 (노드와 무관하게 같은 내용이면 같은 값 → ETag)
+ * @param size   압축 전 XML 크기(byte) (압축을 풀어 전송할 때 Content-Length/Range 계산용)
+ */
+public record SitemapFile(Path path, String digest, long size) {
+}
@@ -0,0 +1,13 @@
+package gyun.sample.domain.sitemap.payload.dto;
+
+import gyun.sample.domain.board.enums.PostType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사이트맵 게시글 URL 한 건 (필요한 컬럼만 조회)
+ *
+ * @param lastModified 수정 시각 (없으면 작성 시각)
+ */
+public record SitemapPostRow(Long id, PostType postType, LocalDateTime lastModified) {
+}
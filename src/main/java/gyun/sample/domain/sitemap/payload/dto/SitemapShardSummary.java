@@ -0,0 +1,25 @@
+package gyun.sample.domain.sitemap.payload.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 사이트맵 샤드 요약
+ * 샤드 번호 = 게시글 ID / SHARD_SIZE 이므로 글이 추가/삭제되어도 기존 게시글의 샤드 위치가 바뀌지 않습니다.
+ *
+ * @param shard        샤드 번호
+ * @param postCount    샤드에 포함된 활성 게시글 수
+ * @param lastModified 샤드 내 가장 최근 수정 시각
+ */
+public record SitemapShardSummary(Long shard, Long postCount, LocalDateTime lastModified) {
+
+    // 샤드당 최대 URL 수 (검색 엔진 제한 50,000개 이하)
+    public static final int SHARD_SIZE = 10000;
+
+    public long fromId() {
+        return shard * SHARD_SIZE;
+    }
+
+    public long toId() {
+        return (shard + 1) * SHARD_SIZE;
+    }
+}
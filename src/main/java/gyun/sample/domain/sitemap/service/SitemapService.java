@@ -0,0 +1,391 @@
+package gyun.sample.domain.sitemap.service;
+
+import gyun.sample.domain.board.enums.PostType;
+import gyun.sample.domain.board.repository.PostRepository;
+import gyun.sample.domain.log.enums.LogType;
+import gyun.sample.domain.log.event.PostActivityEvent;
+import gyun.sample.domain.sitemap.payload.dto.SitemapFile;
+import gyun.sample.domain.sitemap.payload.dto.SitemapPostRow;
+import gyun.sample.domain.sitemap.payload.dto.SitemapShardSummary;
+import gyun.sample.global.enums.GlobalActiveEnums;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사이트맵 파일 관리 (로컬 디스크에 gzip 파일로 미리 생성)
+ * [성능 개선]
+ * - /sitemap.xml은 sitemapindex이고, 고정 페이지(sitemap-static.xml)와 게시글 ID 구간별 샤드(sitemap-posts-{n}.xml)를 가리킵니다.
+ * - 요청은 디스크 파일만 읽으므로(SitemapController) 크롤러 요청이 DB 조회나 힙 사용으로 이어지지 않습니다.
+ * - 기동 시 전체 파일을 백그라운드로 만들고, 이후에는 주기적으로 변경된 샤드만 다시 만듭니다.
+ * 파일은 노드별 로컬 디스크에 있으므로 갱신은 노드마다 실행하되, 먼저 게시판별 최근 수정 시각(워터마크, 인덱스 역방향 스캔 1건)을 확인하여
+ * 바뀐 것이 없으면 샤드 요약 집계(findSitemapShards)를 건너뜁니다.
+ * 첫 생성이 끝나기 전(또는 실패한 동안)에는 요청 스레드에서 생성하지 않고 isReady()=false로 알립니다. (컨트롤러가 503 응답)
+ * - 변경 샤드 판별: 게시글 작성/수정/삭제 이벤트(해당 노드)로 표시된 샤드 + 샤드 요약(게시글 수, 최근 수정 시각)이 달라진 샤드
+ * (다른 노드에서 일어난 변경도 요약 비교로 반영됩니다)
+ * - 파일은 임시 파일에 쓴 뒤 원자적으로 교체하므로, 전송 중인 응답은 이전 파일을 끝까지 읽습니다.
+ * - 기록하면서 압축 전 XML의 해시를 함께 계산하여 ETag로 사용합니다. (파일 수정 시각과 달리 노드마다 같은 값)
+ * 고정 페이지의 lastmod도 현재 시각이 아닌 설정값(static-lastmod) 또는 빌드 시각을 사용하여 노드마다 같은 내용이 되도록 합니다.
+ */
+@Slf4j
+@Service
+public class SitemapService {
+
+    private static final String INDEX_FILE = "sitemap.xml.gz";
+    private static final String STATIC_FILE = "sitemap-static.xml.gz";
+    private static final String POSTS_PREFIX = "sitemap-posts-";
+    private static final String FILE_SUFFIX = ".xml.gz";
+
+    private static final Set<LogType> POST_WRITE_TYPES = EnumSet.of(LogType.POST_CREATE, LogType.POST_UPDATE, LogType.POST_DELETE);
+    private static final DateTimeFormatter LASTMOD = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path directory;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    // 이벤트로 변경이 감지된 샤드 번호
+    private final Set<Long> dirtyShards = ConcurrentHashMap.newKeySet();
+    // 현재 파일을 만들 때 사용한 샤드 요약 (다음 갱신 시 비교 기준)
+    private final Map<Long, SitemapShardSummary> rendered = new HashMap<>();
+    // 파일 이름 -> 현재 파일 (내용 해시 포함)
+    private final Map<String, SitemapFile> files = new ConcurrentHashMap<>();
+    // 현재 파일을 만들 때 확인한 게시판별 최근 수정 시각 (바뀌지 않았으면 샤드 요약 집계 생략)
+    private Map<PostType, LocalDateTime> renderedWatermark = Map.of();
+    private volatile boolean initialized;
+
+    // 고정 페이지 lastmod (설정값 > 빌드 시각 > 생략)
+    private final LocalDateTime staticLastModified;
+
+    @Value("${app.sitemap.base-url:https://honbob-house.com}")
+    private String baseUrl;
+
+    public SitemapService(PostRepository postRepository,
+                          PlatformTransactionManager transactionManager,
+                          ObjectProvider<BuildProperties> buildProperties,
+                          @Value("${app.sitemap.directory:${java.io.tmpdir}/sitemap}") String directory,
+                          @Value("${app.sitemap.static-lastmod:}") String staticLastmod) {
+        this.postRepository = postRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.directory = Paths.get(directory);
+        this.staticLastModified = resolveStaticLastModified(staticLastmod, buildProperties.getIfAvailable());
+    }
+
+    /**
+     * 첫 파일 생성이 완료되었는지 여부
+     */
+    public boolean isReady() {
+        return initialized;
+    }
+
+    public Optional<SitemapFile> getIndex() {
+        return existing(INDEX_FILE);
+    }
+
+    public Optional<SitemapFile> getStatic() {
+        return existing(STATIC_FILE);
+    }
+
+    public Optional<SitemapFile> getPostShard(long shard) {
+        return shard < 0 ? Optional.empty() : existing(POSTS_PREFIX + shard + FILE_SUFFIX);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.sitemap.refresh-interval-ms:60000}",
+            initialDelayString = "${app.sitemap.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        if (POST_WRITE_TYPES.contains(event.logType()) && event.postId() != null) {
+            dirtyShards.add(event.postId() / SitemapShardSummary.SHARD_SIZE);
+        }
+    }
+
+    /**
+     * 변경된 샤드와 인덱스만 다시 생성 (첫 실행 시 전체 생성)
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            boolean full = !initialized;
+            Files.createDirectories(directory);
+
+            // 워터마크와 이벤트 표시 샤드가 그대로면 집계 쿼리 없이 종료 (다른 노드의 변경은 워터마크로 감지)
+            Map<PostType, LocalDateTime> watermark = findWatermark();
+            if (!full && dirtyShards.isEmpty() && watermark.equals(renderedWatermark)
+                    && Files.exists(directory.resolve(INDEX_FILE))) {
+                return;
+            }
+
+            List<SitemapShardSummary> summaries = postRepository.findSitemapShards(GlobalActiveEnums.ACTIVE);
+            Set<Long> dirty = new HashSet<>(dirtyShards);
+            dirtyShards.removeAll(dirty);
+
+            int renderedCount = 0;
+            Set<Long> current = new HashSet<>();
+            for (SitemapShardSummary summary : summaries) {
+                current.add(summary.shard());
+                Path file = directory.resolve(POSTS_PREFIX + summary.shard() + FILE_SUFFIX);
+                if (full || dirty.contains(summary.shard()) || !summary.equals(rendered.get(summary.shard()))
+                        || !Files.exists(file)) {
+                    writeAtomically(file, writer -> renderPostShard(writer, summary));
+                    rendered.put(summary.shard(), summary);
+                    renderedCount++;
+                }
+            }
+            int removedCount = removeStaleShards(current, full);
+
+            if (full || !Files.exists(directory.resolve(STATIC_FILE))) {
+                writeAtomically(directory.resolve(STATIC_FILE), this::renderStatic);
+            }
+            if (full || renderedCount > 0 || removedCount > 0 || !Files.exists(directory.resolve(INDEX_FILE))) {
+                writeAtomically(directory.resolve(INDEX_FILE), writer -> renderIndex(writer, summaries));
+            }
+            renderedWatermark = watermark;
+            initialized = true;
+
+            if (full || renderedCount > 0 || removedCount > 0) {
+                log.info("[Sitemap] 파일 갱신 완료: 샤드 {}개 생성, {}개 삭제 ({}ms)", renderedCount, removedCount,
+                        System.currentTimeMillis() - start);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("[Sitemap] 파일 갱신 실패: {}", e.getMessage(), e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 게시판별 최근 수정 시각 (작성/수정/삭제 모두 modifiedAt을 갱신, idx_post_type_modified_at 역방향 스캔)
+    private Map<PostType, LocalDateTime> findWatermark() {
+        Map<PostType, LocalDateTime> watermark = new EnumMap<>(PostType.class);
+        for (PostType postType : PostType.values()) {
+            LocalDateTime lastModified = postRepository.findLastModifiedAt(postType);
+            if (lastModified != null) {
+                watermark.put(postType, lastModified);
+            }
+        }
+        return watermark;
+    }
+
+    private static LocalDateTime resolveStaticLastModified(String configured, BuildProperties buildProperties) {
+        if (configured != null && !configured.isBlank()) {
+            return LocalDate.parse(configured.trim()).atStartOfDay();
+        }
+        if (buildProperties != null && buildProperties.getTime() != null) {
+            return LocalDateTime.ofInstant(buildProperties.getTime(), ZoneId.of("Asia/Seoul"));
+        }
+        return null;
+    }
+
+    private Optional<SitemapFile> existing(String fileName) {
+        if (!initialized) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(files.get(fileName)).filter(file -> Files.isRegularFile(file.path()));
+    }
+
+    // 활성 게시글이 없어진 샤드 파일 삭제 (전체 생성 시에는 이전 실행에서 남은 파일도 정리)
+    private int removeStaleShards(Set<Long> current, boolean full) throws IOException {
+        int removed = 0;
+        Iterator<Long> iterator = rendered.keySet().iterator();
+        while (iterator.hasNext()) {
+            Long shard = iterator.next();
+            if (!current.contains(shard)) {
+                String fileName = POSTS_PREFIX + shard + FILE_SUFFIX;
+                files.remove(fileName);
+                Files.deleteIfExists(directory.resolve(fileName));
+                iterator.remove();
+                removed++;
+            }
+        }
+        if (full) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, POSTS_PREFIX + "*" + FILE_SUFFIX)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    String number = name.substring(POSTS_PREFIX.length(), name.length() - FILE_SUFFIX.length());
+                    if (!number.chars().allMatch(Character::isDigit) || !current.contains(Long.parseLong(number))) {
+                        Files.deleteIfExists(file);
+                        removed++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    // 임시 파일에 gzip으로 기록한 뒤 원자적으로 교체 (압축 전 내용의 해시를 함께 계산)
+    private void writeAtomically(Path target, XmlBody body) throws IOException {
+        String fileName = target.getFileName().toString();
+        Path temp = Files.createTempFile(directory, fileName, ".tmp");
+        try {
+            MessageDigest digest = newDigest();
+            CountingOutputStream xml = new CountingOutputStream(new DigestOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), digest));
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(xml, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                body.write(writer);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            files.put(fileName, new SitemapFile(target, HexFormat.of().formatHex(digest.digest(), 0, 16), xml.count));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void renderIndex(Writer writer, List<SitemapShardSummary> summaries) throws IOException {
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+        writeSitemap(writer, baseUrl + "/sitemap-static.xml", null);
+        for (SitemapShardSummary summary : summaries) {
+            writeSitemap(writer, baseUrl + "/sitemap-posts-" + summary.shard() + ".xml", summary.lastModified());
+        }
+        writer.write("</sitemapindex>\n");
+    }
+
+    private void renderStatic(Writer writer) throws IOException {
+        writeUrlsetStart(writer);
+        writeUrl(writer, baseUrl + "/", "1.0", staticLastModified);
+        writeUrl(writer, baseUrl + "/board/free/list", "0.8", staticLastModified);
+        writeUrl(writer, baseUrl + "/board/suggestion/list", "0.8", staticLastModified);
+        writer.write("</urlset>\n");
+    }
+
+    // DB 커서(fetch size)로 한 행씩 읽어 바로 기록 (샤드 전체를 메모리에 올리지 않음)
+    private void renderPostShard(Writer writer, SitemapShardSummary summary) throws IOException {
+        writeUrlsetStart(writer);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<SitemapPostRow> rows = postRepository.streamSitemapRows(GlobalActiveEnums.ACTIVE,
+                    summary.fromId(), summary.toId())) {
+                for (SitemapPostRow row : (Iterable<SitemapPostRow>) rows::iterator) {
+                    writePost(writer, row);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.write("</urlset>\n");
+    }
+
+    private void writePost(Writer writer, SitemapPostRow row) throws IOException {
+        PostType postType = row.postType();
+        if (postType == null) {
+            return;
+        }
+        writeUrl(writer, baseUrl + "/board/" + postType.name().toLowerCase() + "/detail/" + row.id(), "0.6",
+                row.lastModified());
+    }
+
+    private static void writeUrlsetStart(Writer writer) throws IOException {
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+    }
+
+    private static void writeSitemap(Writer writer, String loc, LocalDateTime lastModified) throws IOException {
+        writer.write("  <sitemap>\n    <loc>");
+        writer.write(escapeXml(loc));
+        writer.write("</loc>\n");
+        if (lastModified != null) {
+            writer.write("    <lastmod>");
+            writer.write(LASTMOD.format(lastModified));
+            writer.write("</lastmod>\n");
+        }
+        writer.write("  </sitemap>\n");
+    }
+
+    private static void writeUrl(Writer writer, String loc, String priority, LocalDateTime lastModified) throws IOException {
+        writer.write("  <url>\n    <loc>");
+        writer.write(escapeXml(loc));
+        writer.write("</loc>\n");
+        if (lastModified != null) {
+            writer.write("    <lastmod>");
+            writer.write(LASTMOD.format(lastModified));
+            writer.write("</lastmod>\n");
+        }
+        writer.write("    <changefreq>daily</changefreq>\n    <priority>");
+        writer.write(priority);
+        writer.write("</priority>\n  </url>\n");
+    }
+
+    private static String escapeXml(String input) {
+        if (input == null) return "";
+        return input.replace("&", "&amp;")
+                .replace("'", "&apos;")
+                .replace("\"", "&quot;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;");
+    }
+
+    // 압축 전 XML 크기 계산용
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    @FunctionalInterface
+    private interface XmlBody {
+        void write(Writer writer) throws IOException;
+    }
+}
@@ -53,6 +53,7 @@ public class SocialController {
             Member member = googleSocialService.getMemberBySocialCode(code);
 
             PrincipalDetails principalDetails = new PrincipalDetails(member);
+            principalDetails.eraseCredentials();
             Authentication authentication = new UsernamePasswordAuthenticationToken(
                     principalDetails,
                     null,
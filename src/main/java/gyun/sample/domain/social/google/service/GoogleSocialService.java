@@ -20,7 +20,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -41,6 +41,7 @@ public class GoogleSocialService implements SocialLoginService {
     private final MemberRepository memberRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final HttpServletRequest httpServletRequest;
+    private final PasswordEncoder passwordEncoder;
     private final HttpClient httpClient;
 
     @Value("${social.google.baseUrl}")
@@ -54,11 +55,12 @@ public class GoogleSocialService implements SocialLoginService {
     @Value("${social.google.scope}")
     private String scope;
 
-    public GoogleSocialService(GoogleApiClient googleApiClient, MemberRepository memberRepository, ApplicationEventPublisher eventPublisher, HttpServletRequest httpServletRequest) {
+    public GoogleSocialService(GoogleApiClient googleApiClient, MemberRepository memberRepository, ApplicationEventPublisher eventPublisher, HttpServletRequest httpServletRequest, PasswordEncoder passwordEncoder) {
         this.googleApiClient = googleApiClient;
         this.memberRepository = memberRepository;
         this.eventPublisher = eventPublisher;
         this.httpServletRequest = httpServletRequest;
+        this.passwordEncoder = passwordEncoder;
         this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
     }
 
@@ -149,7 +151,7 @@ public class GoogleSocialService implements SocialLoginService {
         }
 
         Member newMember = new Member(loginId, nickName, MemberType.GOOGLE, socialKey);
-        newMember.updatePassword(new BCryptPasswordEncoder().encode("SOCIAL_" + socialKey));
+        newMember.updatePassword(passwordEncoder.encode("SOCIAL_" + socialKey));
         newMember.updateAccessToken(accessToken);
 
         Member savedMember = memberRepository.save(newMember);
@@ -0,0 +1,18 @@
+package gyun.sample.global.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 목록 COUNT 캐시 영역
+ * - 영역 단위로 무효화되며, 실행계획 추정치 조회 시 대상 테이블명으로 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CountRegion {
+
+    POST("post"),
+    MEMBER("member");
+
+    private final String tableName;
+}
@@ -0,0 +1,66 @@
+package gyun.sample.global.cache;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.RequestContext;
+import org.springframework.web.servlet.view.AbstractTemplateView;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.context.webmvc.SpringWebMvcThymeleafRequestContext;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.spring6.naming.SpringContextVariableNames;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Thymeleaf 템플릿 조각을 문자열로 렌더링 (조각 캐시 저장용)
+ * - ThymeleafView와 같은 요청 컨텍스트(링크 표현식 @{}, th:field 바인딩, Spring EL)를 구성하여
+ * 페이지 안에서 렌더링한 것과 같은 결과를 만듭니다.
+ * - 조각 템플릿은 ${hole} 위치에 RenderedFragment.HOLE 표식을 출력할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FragmentRenderer {
+
+    private final SpringTemplateEngine templateEngine;
+    private final ApplicationContext applicationContext;
+
+    private volatile JakartaServletWebApplication webApplication;
+
+    public RenderedFragment render(String template, String fragment, Map<String, Object> variables,
+                                   HttpServletRequest request, HttpServletResponse response) {
+        ServletContext servletContext = request.getServletContext();
+        Map<String, Object> model = new HashMap<>(variables);
+        model.put("hole", RenderedFragment.HOLE);
+
+        RequestContext requestContext = new RequestContext(request, response, servletContext, model);
+        model.put(SpringContextVariableNames.SPRING_REQUEST_CONTEXT, requestContext);
+        model.put(AbstractTemplateView.SPRING_MACRO_REQUEST_CONTEXT_ATTRIBUTE, requestContext);
+        model.put(SpringContextVariableNames.THYMELEAF_REQUEST_CONTEXT,
+                new SpringWebMvcThymeleafRequestContext(requestContext, request));
+        model.put(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext,
+                        (ConversionService) request.getAttribute(ConversionService.class.getName())));
+
+        WebContext context = new WebContext(webApplication(servletContext).buildExchange(request, response),
+                request.getLocale(), model);
+        return RenderedFragment.of(templateEngine.process(template, Set.of(fragment), context));
+    }
+
+    private JakartaServletWebApplication webApplication(ServletContext servletContext) {
+        JakartaServletWebApplication application = webApplication;
+        if (application == null) {
+            application = JakartaServletWebApplication.buildApplication(servletContext);
+            webApplication = application;
+        }
+        return application;
+    }
+}
@@ -0,0 +1,113 @@
+package gyun.sample.global.cache;
+
+import com.querydsl.core.types.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이징 목록의 전체 개수(COUNT) 캐시
+ * - 키: 영역 + 정규화된 Predicate 문자열 (같은 검색 조건이면 같은 COUNT 결과를 재사용)
+ * - TTL 만료 또는 쓰기 이벤트(ListCountCacheInvalidator)에 의한 영역 단위 무효화
+ * - 옵션: 검색어가 없는 대용량 목록은 PostgreSQL 통계 추정치로 COUNT(*)를 대체
+ */
+@Slf4j
+@Component
+public class ListCountCache {
+
+    private final PostgresRowEstimator rowEstimator;
+
+    private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+    // 무효화 세대: COUNT 계산 도중 무효화가 일어나면 오래된 값을 저장하지 않기 위함
+    private final Map<CountRegion, AtomicLong> generations = new EnumMap<>(CountRegion.class);
+
+    @Value("${app.count-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${app.count-cache.max-entries:2000}")
+    private int maxEntries;
+
+    @Value("${app.count-cache.estimate.enabled:false}")
+    private boolean estimateEnabled;
+
+    // 테이블 전체 행 수가 이 값 이상일 때만 추정치 사용 (작은 테이블은 정확한 COUNT)
+    @Value("${app.count-cache.estimate.threshold:100000}")
+    private long estimateThreshold;
+
+    public ListCountCache(PostgresRowEstimator rowEstimator) {
+        this.rowEstimator = rowEstimator;
+        for (CountRegion region : CountRegion.values()) {
+            generations.put(region, new AtomicLong());
+        }
+    }
+
+    /**
+     * 캐시된 COUNT를 반환하고, 없으면 (추정치 또는) exactCounter로 계산하여 캐시합니다.
+     */
+    public long getCount(CountRegion region, Predicate predicate, LongSupplier exactCounter) {
+        String key = toKey(region, predicate);
+        long now = System.currentTimeMillis();
+
+        CachedCount cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+
+        long generation = generations.get(region).get();
+        long count = estimate(region, predicate).orElseGet(exactCounter);
+
+        if (generations.get(region).get() == generation) {
+            evictIfFull(now);
+            cache.put(key, new CachedCount(count, now + ttlSeconds * 1000));
+        }
+        return count;
+    }
+
+    /**
+     * 영역 전체 무효화 (게시글/회원 쓰기 발생 시)
+     */
+    public void invalidate(CountRegion region) {
+        generations.get(region).incrementAndGet();
+        String prefix = region.name() + ":";
+        cache.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private OptionalLong estimate(CountRegion region, Predicate predicate) {
+        if (!estimateEnabled) {
+            return OptionalLong.empty();
+        }
+        long tableRows = rowEstimator.estimateTableRows(region.getTableName());
+        if (tableRows < estimateThreshold) {
+            return OptionalLong.empty();
+        }
+        return rowEstimator.estimateRows(region.getTableName(), predicate);
+    }
+
+    // 검색어 대소문자/공백 차이는 같은 결과(containsIgnoreCase)이므로 하나의 키로 정규화
+    private String toKey(CountRegion region, Predicate predicate) {
+        String normalized = predicate != null ? predicate.toString().trim().toLowerCase(Locale.ROOT) : "";
+        return region.name() + ":" + normalized;
+    }
+
+    // 최대 크기 초과 시 만료 항목 제거, 그래도 가득 차 있으면 전체 비움 (메모리 상한 보장)
+    private void evictIfFull(long now) {
+        if (cache.size() < maxEntries) {
+            return;
+        }
+        cache.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,41 @@
+package gyun.sample.global.cache;
+
+import gyun.sample.domain.log.enums.LogType;
+import gyun.sample.domain.log.event.MemberActivityEvent;
+import gyun.sample.domain.log.event.PostActivityEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 쓰기 이벤트 기반 COUNT 캐시 무효화
+ * - 커밋 이후(AFTER_COMMIT)에 무효화하여, 커밋 전 값이 다시 캐시되는 것을 방지합니다.
+ * - 트랜잭션 밖에서 발행된 이벤트도 처리합니다(fallbackExecution).
+ */
+@Component
+@RequiredArgsConstructor
+public class ListCountCacheInvalidator {
+
+    // 목록 개수/검색 결과에 영향을 주는 활동만 무효화 (조회, 로그인 등은 제외)
+    private static final Set<LogType> POST_WRITE_TYPES = EnumSet.of(LogType.POST_CREATE, LogType.POST_UPDATE, LogType.POST_DELETE);
+    private static final Set<LogType> MEMBER_WRITE_TYPES = EnumSet.of(LogType.JOIN, LogType.UPDATE, LogType.INACTIVE);
+
+    private final ListCountCache listCountCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        if (POST_WRITE_TYPES.contains(event.logType())) {
+            listCountCache.invalidate(CountRegion.POST);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberActivity(MemberActivityEvent event) {
+        if (MEMBER_WRITE_TYPES.contains(event.logType())) {
+            listCountCache.invalidate(CountRegion.MEMBER);
+        }
+    }
+}
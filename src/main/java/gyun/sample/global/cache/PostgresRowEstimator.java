@@ -0,0 +1,125 @@
+package gyun.sample.global.cache;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL 통계 기반 행 수 추정기
+ * - pg_class.reltuples: 테이블 전체 행 수 추정치 (ANALYZE/VACUUM 시 갱신)
+ * - EXPLAIN: 동등(=)/IN 조건만 있는 목록은 플래너의 예상 행 수(Plan Rows)로 COUNT(*)를 대체합니다.
+ * LIKE 검색 등 통계로 추정하기 어려운 조건이 포함되면 추정하지 않습니다(정확한 COUNT 사용).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostgresRowEstimator {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*(\\d+(?:\\.\\d+)?)");
+    private static final Pattern CAMEL_CASE = Pattern.compile("([a-z0-9])([A-Z])");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 테이블 전체 행 수 추정치 (통계가 없으면 -1)
+     */
+    public long estimateTableRows(String tableName) {
+        try {
+            Long rows = jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE relname = ? AND relkind IN ('r', 'p')",
+                    Long.class, tableName);
+            return rows != null ? rows : -1L;
+        } catch (Exception e) {
+            log.debug("reltuples 조회 실패: {}", e.getMessage());
+            return -1L;
+        }
+    }
+
+    /**
+     * 동등/IN 조건으로만 구성된 Predicate의 예상 행 수를 실행계획에서 읽어옵니다.
+     *
+     * @return 추정 불가능한 조건이 있거나 조회 실패 시 empty
+     */
+    public OptionalLong estimateRows(String tableName, Predicate predicate) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        Expression<?> root = predicate instanceof BooleanBuilder builder ? builder.getValue() : predicate;
+        if (root != null && !collectConditions(root, conditions, params)) {
+            return OptionalLong.empty();
+        }
+
+        StringBuilder sql = new StringBuilder("EXPLAIN (FORMAT JSON) SELECT 1 FROM ").append(tableName);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+
+        try {
+            String plan = jdbcTemplate.queryForObject(sql.toString(), String.class, params.toArray());
+            Matcher matcher = plan != null ? PLAN_ROWS.matcher(plan) : null;
+            if (matcher != null && matcher.find()) {
+                return OptionalLong.of((long) Double.parseDouble(matcher.group(1)));
+            }
+        } catch (Exception e) {
+            log.debug("실행계획 기반 행 수 추정 실패: {}", e.getMessage());
+        }
+        return OptionalLong.empty();
+    }
+
+    // AND로 연결된 (루트 경로 = 상수) / (루트 경로 IN 상수목록) 조건만 SQL로 변환
+    private boolean collectConditions(Expression<?> expression, List<String> conditions, List<Object> params) {
+        if (!(expression instanceof Operation<?> operation)) {
+            return false;
+        }
+
+        Operator op = operation.getOperator();
+        if (op == Ops.AND) {
+            for (Expression<?> arg : operation.getArgs()) {
+                if (!collectConditions(arg, conditions, params)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (operation.getArgs().size() != 2
+                || !(operation.getArg(0) instanceof Path<?> path)
+                || !(operation.getArg(1) instanceof Constant<?> constant)
+                || path.getMetadata().getParent() == null
+                || !path.getMetadata().getParent().getMetadata().isRoot()) {
+            return false;
+        }
+
+        String column = toColumnName(path.getMetadata().getName());
+        if (op == Ops.EQ) {
+            conditions.add(column + " = ?");
+            params.add(toJdbcValue(constant.getConstant()));
+            return true;
+        }
+        if (op == Ops.IN && constant.getConstant() instanceof Collection<?> values && !values.isEmpty()) {
+            conditions.add(column + " IN (" + String.join(", ", values.stream().map(v -> "?").toList()) + ")");
+            values.forEach(v -> params.add(toJdbcValue(v)));
+            return true;
+        }
+        return false;
+    }
+
+    // Spring Boot 기본 물리 네이밍 전략(CamelCaseToUnderscores)과 동일하게 변환
+    private String toColumnName(String property) {
+        return CAMEL_CASE.matcher(property).replaceAll("$1_$2").toLowerCase();
+    }
+
+    private Object toJdbcValue(Object value) {
+        return value instanceof Enum<?> e ? e.name() : value;
+    }
+}
@@ -0,0 +1,25 @@
+package gyun.sample.global.cache;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 렌더링된 HTML 조각 (캐시 저장 단위)
+ * - 조각 템플릿에서 사용자별 영역 자리에 HOLE 표식을 출력해 두면, 표식 기준으로 나뉜 구간(segment)으로 저장됩니다.
+ * - 페이지 템플릿은 구간 사이에 사용자별 영역(좋아요 여부, 수정/삭제 버튼 등)을 요청마다 렌더링하여 끼워 넣습니다. (hole-punching)
+ * - 사용자 입력은 렌더링 시 이스케이프되므로 본문에 표식이 그대로 나타날 수 없습니다.
+ */
+public record RenderedFragment(List<String> segments) {
+
+    public static final String HOLE = "<!--fragment-hole-->";
+
+    private static final Pattern HOLE_PATTERN = Pattern.compile(Pattern.quote(HOLE));
+
+    public static RenderedFragment of(String html) {
+        return new RenderedFragment(List.of(HOLE_PATTERN.split(html, -1)));
+    }
+
+    public String segment(int index) {
+        return index < segments.size() ? segments.get(index) : "";
+    }
+}
@@ -0,0 +1,121 @@
+package gyun.sample.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시간 창(window) 단위로 교체되는 2세대 Bloom Filter
+ * - 현재/이전 세대 두 개만 유지하므로 메모리 사용량이 고정됩니다 (2 × 비트 배열).
+ * - 키는 추가된 시점부터 최소 window, 최대 2 × window 동안 기억됩니다.
+ * - 거짓 양성(처음인데 이미 있다고 판단)은 설정한 확률(fpp) 이하로 발생하며, 거짓 음성은 없습니다.
+ */
+public class RotatingBloomFilter {
+
+    private final long windowMillis;
+    private final int bitCount;
+    private final int hashCount;
+
+    private volatile BitSet current;
+    private volatile BitSet previous;
+    private volatile long rotatedAt;
+
+    /**
+     * @param expectedInsertions 한 세대(window) 동안 예상되는 키 수
+     * @param fpp                허용 거짓 양성 확률 (예: 0.01)
+     * @param windowMillis       세대 교체 주기
+     */
+    public RotatingBloomFilter(long expectedInsertions, double fpp, long windowMillis) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 64, Math.max(64, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.windowMillis = windowMillis;
+        this.current = new BitSet(bitCount);
+        this.previous = new BitSet(bitCount);
+        this.rotatedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 키가 없으면 추가하고 true, 이미 있으면(또는 거짓 양성이면) false를 반환합니다.
+     */
+    public boolean putIfAbsent(String key) {
+        rotateIfExpired();
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        if (previous.containsAll(h1, h2, hashCount, bitCount)) {
+            return false;
+        }
+        // 하나라도 새로 켠 비트가 있으면 처음 본 키
+        return current.setAll(h1, h2, hashCount, bitCount);
+    }
+
+    private void rotateIfExpired() {
+        if (System.currentTimeMillis() - rotatedAt < windowMillis) {
+            return;
+        }
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (now - rotatedAt >= windowMillis) {
+                // 두 window 이상 비어 있었다면 이전 세대도 만료된 것이므로 함께 비움
+                previous = now - rotatedAt >= windowMillis * 2 ? new BitSet(bitCount) : current;
+                current = new BitSet(bitCount);
+                rotatedAt = now;
+            }
+        }
+    }
+
+    // FNV-1a 64bit + MurmurHash3 fmix64 (Kirsch-Mitzenmacher 이중 해싱의 기반 값)
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    // 스레드 안전한 비트 배열 (CAS로 비트 설정)
+    private static final class BitSet {
+
+        private final AtomicLongArray words;
+
+        BitSet(int bitCount) {
+            this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+        }
+
+        boolean containsAll(int h1, int h2, int hashCount, int bitCount) {
+            for (int i = 0; i < hashCount; i++) {
+                int index = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean setAll(int h1, int h2, int hashCount, int bitCount) {
+            boolean changed = false;
+            for (int i = 0; i < hashCount; i++) {
+                int index = Math.floorMod(h1 + i * h2, bitCount);
+                long mask = 1L << index;
+                int wordIndex = index >>> 6;
+                long word;
+                do {
+                    word = words.get(wordIndex);
+                    if ((word & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(wordIndex, word, word | mask));
+                changed |= (word & mask) == 0;
+            }
+            return changed;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package gyun.sample.global.config.jpa;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * PostgreSQL 전문 검색(Full-Text Search) 함수를 HQL/QueryDSL에서 사용할 수 있도록 등록합니다.
+ * (META-INF/services/org.hibernate.boot.model.FunctionContributor 로 자동 등록)
+ * <p>
+ * - fts_match(text, keyword): to_tsvector('simple', text) @@ plainto_tsquery('simple', keyword)
+ * - 'simple' 설정은 형태소 분석/불용어 없이 공백 기준으로 토큰화하므로 한글 어절에도 그대로 동작합니다.
+ * - 식 인덱스(to_tsvector('simple', search_text))와 표현식이 같아야 GIN 인덱스를 사용합니다.
+ */
+public class PostgresSearchFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "fts_match",
+                "(to_tsvector('simple', ?1) @@ plainto_tsquery('simple', ?2))",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN)
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package gyun.sample.global.config.jpa;
+
+import gyun.sample.domain.log.service.LogPartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 시 스키마 보조 DDL 실행 (JPA로 표현할 수 없는 인덱스/테이블, 로그 파티션 준비)
+ * - 모든 빈 생성(ddl-auto 포함) 직후, 웹 서버가 요청을 받기 전에 동기로 실행하므로 이 DDL을 전제로 하는 쿼리가 먼저 실행되지 않습니다.
+ * - 실행 순서: 로그 파티션 준비(LogPartitionManager) → SCRIPTS 순서대로 db/schema/*.sql
+ * (로그 인덱스는 파티션 전환으로 기존 인덱스가 삭제된 뒤에 만들어야 하므로 순서를 고정)
+ * - 여러 노드가 동시에 기동해도 advisory lock으로 한 노드씩 실행하며, 스크립트는 모두 멱등(IF NOT EXISTS)입니다.
+ * - 문장 단위로 실행하며, 실패한 문장(pg_trgm 설치 권한 없음 등)은 경고 후 다음 문장을 계속 실행합니다.
+ * - 스키마를 외부 마이그레이션 도구로 관리하는 환경에서는 app.schema-init.enabled=false로 끄고 같은 스크립트를 먼저 적용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaInitializer implements SmartInitializingSingleton {
+
+    private static final List<String> SCRIPTS = List.of(
+            "db/schema/01-post-search-index.sql",
+            "db/schema/02-activity-log-index.sql",
+            "db/schema/03-rate-limit-counter.sql",
+            "db/schema/04-post-like-unique.sql"
+    );
+
+    // 스키마 초기화 전용 advisory lock 키
+    private static final long LOCK_KEY = 0x68_6F_6E_62_6F_62_01L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LogPartitionManager logPartitionManager;
+
+    @Value("${app.schema-init.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.currentTimeMillis();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT pg_advisory_lock(" + LOCK_KEY + ")");
+                try {
+                    logPartitionManager.prepare();
+                    if (enabled) {
+                        for (String script : SCRIPTS) {
+                            run(statement, script);
+                        }
+                    }
+                } finally {
+                    statement.execute("SELECT pg_advisory_unlock(" + LOCK_KEY + ")");
+                }
+            }
+            return null;
+        });
+        log.info("[Schema] 스키마 초기화 완료 ({}ms)", System.currentTimeMillis() - start);
+    }
+
+    private void run(Statement statement, String script) {
+        for (String sql : statements(read(script))) {
+            try {
+                statement.execute(sql);
+            } catch (SQLException e) {
+                log.warn("[Schema] {} 실행 실패: {} ({})", script, sql, e.getMessage());
+            }
+        }
+    }
+
+    // 주석(--) 줄을 제거하고 ';' 기준으로 문장 분리 (스크립트의 문자열 리터럴에는 ';'를 쓰지 않음)
+    private static List<String> statements(String script) {
+        String sql = script.lines()
+                .filter(line -> !line.strip().startsWith("--"))
+                .collect(Collectors.joining("\n"));
+        return Arrays.stream(sql.split(";"))
+                .map(String::strip)
+                .filter(statement -> !statement.isEmpty())
+                .toList();
+    }
+
+    private static String read(String script) {
+        try {
+            return new ClassPathResource(script).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package gyun.sample.global.config.security;
+
+import gyun.sample.global.security.password.BoundedPasswordEncoder;
+import gyun.sample.global.security.password.PasswordStrengthCalibrator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 비밀번호 인코더 설정
+ * [성능 개선]
+ * - DelegatingPasswordEncoder: 새 해시는 {bcrypt} 접두사 + 설정 강도로 만들고, 접두사 없는 기존 해시도 BCrypt로 검증합니다.
+ * 기존 해시(접두사 없음/낮은 강도)는 로그인 성공 시 PrincipalDetailsService.updatePassword로 자동 재해시됩니다.
+ * - 강도는 고정값(strength) 또는 기동 시 목표 시간(target-millis) 기준 보정값을 사용합니다.
+ * 강도별 비용은 PasswordEncoderBenchmark(./gradlew jmh)로 측정하여 설정값을 정합니다.
+ * - 해시 연산은 BoundedPasswordEncoder의 전용 스레드 풀에서만 실행됩니다.
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String ENCODING_ID = "bcrypt";
+
+    // 최소(또는 고정) BCrypt 강도
+    @Value("${app.security.password.strength:10}")
+    private int strength;
+
+    // 0보다 크면 기동 시 해시 1회가 이 시간 이하인 가장 높은 강도로 보정 (strength ~ max-strength)
+    @Value("${app.security.password.target-millis:0}")
+    private long targetMillis;
+
+    @Value("${app.security.password.max-strength:14}")
+    private int maxStrength;
+
+    // 0 이하면 CPU 코어 수의 절반
+    @Value("${app.security.password.threads:0}")
+    private int threads;
+
+    @Value("${app.security.password.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.security.password.timeout-ms:3000}")
+    private long timeoutMillis;
+
+    @Value("${app.security.password.verified-cache.enabled:true}")
+    private boolean verifiedCacheEnabled;
+
+    @Value("${app.security.password.verified-cache.ttl-seconds:300}")
+    private long verifiedCacheTtlSeconds;
+
+    @Value("${app.security.password.verified-cache.max-entries:10000}")
+    private long verifiedCacheMaxEntries;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int resolvedStrength = targetMillis > 0
+                ? PasswordStrengthCalibrator.calibrate(strength, maxStrength, targetMillis)
+                : strength;
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(resolvedStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int resolvedThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(delegating, meterRegistry, resolvedThreads, queueCapacity, timeoutMillis,
+                verifiedCacheEnabled, Duration.ofSeconds(verifiedCacheTtlSeconds), verifiedCacheMaxEntries);
+    }
+}
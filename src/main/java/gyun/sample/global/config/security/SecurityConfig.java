@@ -1,23 +1,36 @@
 package gyun.sample.global.config.security;
 
+import gyun.sample.domain.member.repository.MemberRepository;
+import gyun.sample.global.security.PrincipalRefreshFilter;
 import gyun.sample.global.security.handler.CustomAuthFailureHandler;
 import gyun.sample.global.security.handler.CustomAuthSuccessHandler;
+import gyun.sample.global.security.throttle.LoginAttemptThrottle;
+import gyun.sample.global.security.throttle.ThrottledAuthenticationProvider;
+import gyun.sample.global.utils.ClientIpResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AuthenticationDetailsSource;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -32,35 +45,70 @@ import java.util.List;
 public class SecurityConfig {
 
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+    private final PasswordEncoder passwordEncoder; // PasswordEncoderConfig
     private final CustomAuthSuccessHandler customAuthSuccessHandler;
     private final CustomAuthFailureHandler customAuthFailureHandler;
+    private final MemberRepository memberRepository;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final ClientIpResolver clientIpResolver;
 
     @Value("${app.cors.allowed-origins}")
     private List<String> allowedOrigins;
 
+    // 세션 Principal 스냅샷과 회원 정보 일치 여부 확인 주기
+    @Value("${app.security.principal-refresh-interval-seconds:60}")
+    private long principalRefreshIntervalSeconds;
+
     // 인증 없이 접근 가능한 경로 (일반 유저용)
     private static final String[] PUBLIC_URLS = {
             "/", "/account/login", "/error", "/login",
             "/api/health", "/api/sms/**", "/social/**",
             "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**",
             "/css/**", "/js/**", "/images/**", "/favicon.ico",
-            "/.well-known/**"
+            "/.well-known/**",
+            "/sitemap.xml", "/sitemap-*.xml"
     };
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    // 정적 리소스 (세션/SecurityContext를 조회하지 않아야 하는 요청)
+    private static final RequestMatcher STATIC_RESOURCES = new OrRequestMatcher(
+            PathRequest.toStaticResources().atCommonLocations(),
+            new AntPathRequestMatcher("/sw.js"),
+            new AntPathRequestMatcher("/admin/css/**"),
+            new AntPathRequestMatcher("/admin/js/**")
+    );
 
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
-        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
+        // 로그인 실패 누적 시 비밀번호 확인 전에 거절 (LoginAttemptThrottle)
+        DaoAuthenticationProvider authProvider = new ThrottledAuthenticationProvider(loginAttemptThrottle);
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // 로그인 성공 시 기존(접두사 없음/낮은 강도) 해시를 현재 설정으로 재해시
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         authProvider.setHideUserNotFoundExceptions(false);
         return authProvider;
     }
 
+    /**
+     * [성능 개선] 세션에는 회원 스냅샷(PrincipalDetails)만 저장하므로, 회원 정보 변경 시 스냅샷을 교체하는 필터
+     * (@Component로 등록하면 서블릿 필터로도 중복 등록되므로 각 체인에 직접 추가)
+     */
+    private PrincipalRefreshFilter principalRefreshFilter() {
+        return new PrincipalRefreshFilter(memberRepository, new HttpSessionSecurityContextRepository(),
+                principalRefreshIntervalSeconds * 1000, STATIC_RESOURCES);
+    }
+
+    /**
+     * 인증 details의 IP를 신뢰 프록시 기준 클라이언트 IP로 지정 (로그인 실패 제한의 IP 키)
+     */
+    private AuthenticationDetailsSource<HttpServletRequest, WebAuthenticationDetails> authenticationDetailsSource() {
+        return request -> {
+            HttpSession session = request.getSession(false);
+            return new WebAuthenticationDetails(clientIpResolver.resolve(request), session != null ? session.getId() : null);
+        };
+    }
+
     /**
      * 1. 관리자용 Security Filter Chain (@Order(1))
      * - /admin/** 경로로 들어오는 요청을 처리합니다.
@@ -72,6 +120,7 @@ public class SecurityConfig {
         http
                 .securityMatcher("/admin/**") // 이 체인은 /admin/** 경로에만 적용됨
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .addFilterAfter(principalRefreshFilter(), SecurityContextHolderFilter.class)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/admin/login", "/admin/css/**", "/admin/js/**").permitAll() // 관리자 로그인 페이지는 허용
                         .requestMatchers("/admin/**").hasAnyRole("ADMIN", "SUPER_ADMIN") // 그 외 관리자 페이지는 권한 필요
@@ -82,6 +131,7 @@ public class SecurityConfig {
                         .loginProcessingUrl("/admin/login") // 관리자 로그인 처리 URL
                         .usernameParameter("loginId")
                         .passwordParameter("password")
+                        .authenticationDetailsSource(authenticationDetailsSource())
                         .defaultSuccessUrl("/member/user/list", true) // 로그인 성공 시 이동할 기본 페이지 (회원 관리)
                         .failureUrl("/admin/login?error")   // 실패 시 URL
                         .permitAll()
@@ -104,13 +154,13 @@ public class SecurityConfig {
     public SecurityFilterChain userFilterChain(HttpSecurity http) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .addFilterAfter(principalRefreshFilter(), SecurityContextHolderFilter.class)
                 .authenticationProvider(authenticationProvider())
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
                 )
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
-                        .requestMatchers(new AntPathRequestMatcher("/sw.js")).permitAll()
+                        .requestMatchers(STATIC_RESOURCES).permitAll()
                         .requestMatchers(PUBLIC_URLS).permitAll()
                         .anyRequest().authenticated()
                 )
@@ -119,6 +169,7 @@ public class SecurityConfig {
                         .loginProcessingUrl("/login")
                         .usernameParameter("loginId")
                         .passwordParameter("password")
+                        .authenticationDetailsSource(authenticationDetailsSource())
                         .successHandler(customAuthSuccessHandler)
                         .failureHandler(customAuthFailureHandler)
                         .permitAll()
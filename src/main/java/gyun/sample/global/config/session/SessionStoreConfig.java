@@ -0,0 +1,58 @@
+package gyun.sample.global.config.session;
+
+import gyun.sample.global.security.SessionAttributeCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 저장소 설정 (app.session.store)
+ * - jdbc(기본): Spring Session JDBC 자동 설정으로 PostgreSQL(spring_session 테이블)에 세션을 저장합니다.
+ * 여러 노드가 세션을 공유하고, 재배포/재기동 시에도 로그인이 유지되며, 유휴 세션이 힙을 차지하지 않습니다.
+ * - memory: 단일 노드 로컬 개발용 대체 저장소 (ConcurrentHashMap, 재기동 시 세션 소멸)
+ * <p>
+ * [성능 개선] JDBC 저장소 동작
+ * - 속성 값은 SessionAttributeCodec 바이너리 형식으로 저장합니다.
+ * - 세션 조회 시 속성은 처음 접근할 때 역직렬화됩니다. (사용하지 않는 속성은 역직렬화하지 않음)
+ * - save-mode: on-set-attribute 이므로 요청 중 setAttribute한 속성만 다시 기록합니다.
+ * - 세션은 request.getSession() 호출 시에만 조회되므로, 정적 리소스 요청은 세션 저장소에 접근하지 않습니다.
+ * (SecurityContext는 지연 로딩되고, PrincipalRefreshFilter는 정적 리소스를 건너뜁니다)
+ */
+@Configuration
+public class SessionStoreConfig {
+
+    /**
+     * JdbcIndexedSessionRepository가 속성 값 변환에 사용하는 ConversionService (빈 이름 고정)
+     */
+    @Bean("springSessionConversionService")
+    public GenericConversionService springSessionConversionService() {
+        SessionAttributeCodec codec = new SessionAttributeCodec(getClass().getClassLoader());
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, codec::serialize);
+        conversionService.addConverter(byte[].class, Object.class, codec::deserialize);
+        return conversionService;
+    }
+
+    /**
+     * SessionRepository 빈을 직접 등록하면 JDBC 자동 설정은 적용되지 않습니다.
+     */
+    @Configuration
+    @EnableSpringHttpSession
+    @ConditionalOnProperty(name = "app.session.store", havingValue = "memory")
+    static class MemorySessionStoreConfig {
+
+        @Bean
+        public MapSessionRepository sessionRepository(@Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+            MapSessionRepository repository = new MapSessionRepository(new ConcurrentHashMap<>());
+            repository.setDefaultMaxInactiveInterval(timeout);
+            return repository;
+        }
+    }
+}
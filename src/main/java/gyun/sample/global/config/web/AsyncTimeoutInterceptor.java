@@ -0,0 +1,32 @@
+package gyun.sample.global.config.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 엔드포인트별 비동기 응답 제한 시간 (StreamingResponseBody 등)
+ * - 전역 제한 시간(spring.mvc.async.request-timeout)은 기본값으로 두고, 오래 걸리는 응답(로그 내보내기 등)만 늘립니다.
+ * - 컨트롤러에서 setTimeout으로 요청 속성을 지정하면, 비동기 처리가 시작되기 직전(beforeConcurrentHandling)에 해당 요청에만 적용됩니다.
+ */
+public class AsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private static final String TIMEOUT_ATTRIBUTE = AsyncTimeoutInterceptor.class.getName() + ".timeout";
+
+    public static void setTimeout(HttpServletRequest request, Duration timeout) {
+        request.setAttribute(TIMEOUT_ATTRIBUTE, timeout);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncWebRequest
+                && request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Duration timeout) {
+            asyncWebRequest.setTimeout(timeout.toMillis());
+        }
+    }
+}
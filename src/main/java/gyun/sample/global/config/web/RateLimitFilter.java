@@ -0,0 +1,154 @@
+package gyun.sample.global.config.web;
+
+import gyun.sample.domain.account.enums.AccountRole;
+import gyun.sample.global.ratelimit.RateLimitResult;
+import gyun.sample.global.ratelimit.RateLimitRouteClassifier;
+import gyun.sample.global.ratelimit.RateLimitStore;
+import gyun.sample.global.ratelimit.RouteClass;
+import gyun.sample.global.security.PrincipalDetails;
+import gyun.sample.global.utils.ClientIpResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 요청 제한 필터 (기존 IpRateLimitFilter 대체)
+ * - 키: 로그인 회원은 회원 ID, 비로그인은 신뢰 프록시 기준 클라이언트 IP (ClientIpResolver)
+ * - 정책: 경로 분류(RateLimitRouteClassifier)에 따라 버킷 정책과 토큰 비용이 정해지고, 관리자는 admin-multiplier 배를 허용합니다.
+ * - 제외 분류(정적 리소스, 헬스 체크)는 세션/버킷을 조회하지 않고 바로 통과합니다.
+ * - 지표: rate.limit.requests{class, outcome=allowed|blocked|exempt}
+ * - 버킷 저장소: RateLimitStore (local: 메모리 상한이 있는 노드별 버킷 / jdbc: 노드 간 공유 카운터)
+ * - 로그인 처리(/login)보다 먼저 거절해야 BCrypt 연산을 막을 수 있으므로 Spring Security 필터 체인 앞에서 실행합니다.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Duration PERIOD = Duration.ofMinutes(1);
+
+    private final RateLimitStore rateLimitStore;
+    private final ClientIpResolver clientIpResolver;
+    private final RateLimitRouteClassifier routeClassifier;
+
+    private final Map<RouteClass, Counter> allowedCounters = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Counter> blockedCounters = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Counter> exemptCounters = new EnumMap<>(RouteClass.class);
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.policy.login:10}")
+    private long loginPerMinute;
+
+    @Value("${app.rate-limit.policy.write:60}")
+    private long writePerMinute;
+
+    @Value("${app.rate-limit.policy.default:200}")
+    private long defaultPerMinute;
+
+    @Value("${app.rate-limit.admin-multiplier:5}")
+    private long adminMultiplier;
+
+    public RateLimitFilter(RateLimitStore rateLimitStore, ClientIpResolver clientIpResolver,
+                           RateLimitRouteClassifier routeClassifier, MeterRegistry meterRegistry) {
+        this.rateLimitStore = rateLimitStore;
+        this.clientIpResolver = clientIpResolver;
+        this.routeClassifier = routeClassifier;
+        for (RouteClass routeClass : RouteClass.values()) {
+            allowedCounters.put(routeClass, counter(meterRegistry, routeClass, "allowed"));
+            blockedCounters.put(routeClass, counter(meterRegistry, routeClass, "blocked"));
+            exemptCounters.put(routeClass, counter(meterRegistry, routeClass, "exempt"));
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, RouteClass routeClass, String outcome) {
+        return Counter.builder("rate.limit.requests")
+                .tag("class", routeClass.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // 이후 로그/서비스에서 같은 클라이언트 IP를 사용하도록 판별 결과를 요청 속성에 저장
+        String clientIp = clientIpResolver.resolve(request);
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RouteClass routeClass = routeClassifier.classify(request);
+        long cost = routeClassifier.costOf(routeClass);
+        if (cost <= 0) {
+            exemptCounters.get(routeClass).increment();
+            chain.doFilter(request, response);
+            return;
+        }
+
+        PrincipalDetails member = currentMember(request);
+        String key = routeClass.getPolicy().name() + ":" + (member != null ? "m" + member.getId() : "ip" + clientIp);
+
+        RateLimitResult result = rateLimitStore.tryConsume(key, capacityOf(routeClass, member), PERIOD, cost);
+        if (result.allowed()) {
+            allowedCounters.get(routeClass).increment();
+            chain.doFilter(request, response);
+        } else {
+            blockedCounters.get(routeClass).increment();
+            respondTooManyRequests(response, result.retryAfterSeconds());
+        }
+    }
+
+    private long capacityOf(RouteClass routeClass, PrincipalDetails member) {
+        long capacity = switch (routeClass.getPolicy()) {
+            case LOGIN -> loginPerMinute;
+            case WRITE -> writePerMinute;
+            case DEFAULT -> defaultPerMinute;
+        };
+        boolean admin = member != null
+                && (member.getRole() == AccountRole.ADMIN || member.getRole() == AccountRole.SUPER_ADMIN);
+        return admin ? capacity * adminMultiplier : capacity;
+    }
+
+    // Security 필터 체인 전이므로 세션의 SecurityContext를 직접 확인 (세션 쿠키가 없으면 세션을 조회하지 않음)
+    private PrincipalDetails currentMember(HttpServletRequest request) {
+        if (request.getRequestedSessionId() == null) {
+            return null;
+        }
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return null;
+        }
+        if (session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY) instanceof SecurityContext context) {
+            Authentication authentication = context.getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principal) {
+                return principal;
+            }
+        }
+        return null;
+    }
+
+    private void respondTooManyRequests(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write(String.format("{\"message\":\"Too many requests\", \"retryAfter\": %d}", retryAfterSeconds));
+    }
+}
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -33,4 +34,10 @@ public class WebConfig implements WebMvcConfigurer {
         // 소문자 String -> Enum 변환 (URL PathVariable 용)
         registry.addConverter(String.class, AccountRole.class, AccountRole::create);
     }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // 엔드포인트별 비동기 응답 제한 시간 (로그 내보내기 등)
+        configurer.registerCallableInterceptors(new AsyncTimeoutInterceptor());
+    }
 }
\ No newline at end of file
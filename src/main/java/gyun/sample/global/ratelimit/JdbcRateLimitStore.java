@@ -0,0 +1,63 @@
+package gyun.sample.global.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * PostgreSQL 공유 카운터 저장소 (다중 노드)
+ * - 고정 창(period) 카운터를 UNLOGGED 테이블에 두고, INSERT ... ON CONFLICT DO UPDATE ... RETURNING 한 번으로
+ * 증가와 조회를 원자적으로 처리합니다. (요청당 1회 왕복)
+ * - 창 경계에서 최대 2배까지 허용될 수 있는 고정 창 방식의 한계가 있으나, 노드 수와 무관하게 전체 한도를 유지합니다.
+ * - 저장소 장애 시 요청을 막지 않고 허용합니다. (요청 제한보다 서비스 가용성 우선)
+ * - 테이블: db/schema/03-rate-limit-counter.sql (SchemaInitializer)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimitStore implements RateLimitStore {
+
+    private static final String INCREMENT_SQL = "INSERT INTO rate_limit_counter (bucket_key, window_start, tokens) " +
+            "VALUES (?, ?, ?) " +
+            "ON CONFLICT (bucket_key, window_start) DO UPDATE SET tokens = rate_limit_counter.tokens + EXCLUDED.tokens " +
+            "RETURNING tokens";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRateLimitStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String key, long capacity, Duration period, long tokens) {
+        long now = System.currentTimeMillis();
+        long periodMillis = period.toMillis();
+        long windowStart = now - (now % periodMillis);
+        try {
+            Long used = jdbcTemplate.queryForObject(INCREMENT_SQL, Long.class, key, windowStart, tokens);
+            if (used != null && used > capacity) {
+                return RateLimitResult.rejected((windowStart + periodMillis - now) / 1000 + 1);
+            }
+        } catch (Exception e) {
+            log.warn("[Rate Limit] 공유 카운터 조회 실패, 요청 허용: {}", e.getMessage());
+        }
+        return RateLimitResult.allowed();
+    }
+
+    /**
+     * 지난 창의 카운터 삭제 (가장 긴 정책 주기보다 오래된 행)
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.jdbc.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        try {
+            jdbcTemplate.update("DELETE FROM rate_limit_counter WHERE window_start < ?",
+                    System.currentTimeMillis() - Duration.ofHours(1).toMillis());
+        } catch (Exception e) {
+            log.warn("[Rate Limit] 공유 카운터 정리 실패: {}", e.getMessage());
+        }
+    }
+}
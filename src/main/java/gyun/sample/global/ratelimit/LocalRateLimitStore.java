@@ -0,0 +1,56 @@
+package gyun.sample.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드별 메모리 버킷 저장소 (Bucket4j)
+ * [성능 개선] 기존 IpRateLimitFilter의 ConcurrentHashMap은 IP(위조된 X-Forwarded-For 포함)마다 버킷을 영구 보관하여
+ * 공격 시 메모리가 계속 증가했습니다. 최대 키 수 + 유휴 만료가 있는 캐시로 메모리 상한을 둡니다.
+ * - 유휴 시간(idle)이 보충 주기보다 길면 만료된 버킷은 이미 가득 찬 상태이므로, 버킷을 버려도 제한 결과가 달라지지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, Bucket> buckets;
+
+    public LocalRateLimitStore(MeterRegistry meterRegistry,
+                               @Value("${app.rate-limit.local.max-keys:100000}") long maxKeys,
+                               @Value("${app.rate-limit.local.idle-minutes:10}") long idleMinutes) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleMinutes, TimeUnit.MINUTES)
+                .build();
+        Gauge.builder("rate.limit.local.keys", buckets, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String key, long capacity, Duration period, long tokens) {
+        // 허용량이 바뀌면(권한 변경 등) 새 버킷을 사용하도록 허용량을 키에 포함
+        Bucket bucket = buckets.get(key + "#" + capacity, k -> createBucket(capacity, period));
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(tokens);
+        if (probe.isConsumed()) {
+            return RateLimitResult.allowed();
+        }
+        return RateLimitResult.rejected(TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill()) + 1);
+    }
+
+    private static Bucket createBucket(long capacity, Duration period) {
+        return Bucket.builder()
+                .addLimit(Bandwidth.classic(capacity, Refill.greedy(capacity, period)))
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package gyun.sample.global.ratelimit;
+
+/**
+ * 요청 제한 버킷 정책 (RouteClass마다 정해지며, 정책마다 별도 버킷)
+ * 정책별 허용량은 app.rate-limit.policy.* 로 설정합니다. (분당 요청 수)
+ */
+public enum RateLimitPolicy {
+
+    // 로그인 처리, SMS 발송 (비용이 큰 요청: BCrypt 연산, 외부 발송)
+    LOGIN,
+    // 조회가 아닌 요청 (POST/PUT/PATCH/DELETE)
+    WRITE,
+    // 그 외 모든 요청
+    DEFAULT
+}
@@ -0,0 +1,20 @@
+package gyun.sample.global.ratelimit;
+
+/**
+ * 토큰 소비 결과
+ *
+ * @param allowed           허용 여부
+ * @param retryAfterSeconds 거절 시 다시 시도할 수 있을 때까지 남은 시간(초)
+ */
+public record RateLimitResult(boolean allowed, long retryAfterSeconds) {
+
+    private static final RateLimitResult ALLOWED = new RateLimitResult(true, 0);
+
+    public static RateLimitResult allowed() {
+        return ALLOWED;
+    }
+
+    public static RateLimitResult rejected(long retryAfterSeconds) {
+        return new RateLimitResult(false, Math.max(1, retryAfterSeconds));
+    }
+}
@@ -0,0 +1,98 @@
+package gyun.sample.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 경로 분류 + 분류별 토큰 비용
+ * [성능 개선] 패턴은 기동 시 PathPattern으로 한 번만 컴파일하고, 요청마다 경로를 한 번만 파싱하여 순서대로 비교합니다.
+ * - 정적 리소스/헬스 체크는 기본 비용 0(제외)이므로 자산이 많은 페이지나 로드 밸런서 헬스 체크가 사용자 버킷을 소모하지 않습니다.
+ * - 제외 분류는 세션/버킷 저장소를 전혀 조회하지 않습니다. (RateLimitFilter)
+ */
+@Component
+public class RateLimitRouteClassifier {
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+    private static final List<PathPattern> STATIC_PATTERNS = compile(
+            "/css/**", "/js/**", "/image/**", "/images/**", "/webjars/**",
+            "/admin/css/**", "/admin/js/**",
+            "/favicon.ico", "/sw.js", "/robots.txt", "/Manifest.json", "/.well-known/**");
+
+    private static final List<PathPattern> HEALTH_PATTERNS = compile("/api/health", "/actuator/health/**");
+
+    private static final List<PathPattern> LOGIN_PATTERNS = compile("/login", "/admin/login");
+
+    private static final List<PathPattern> SMS_PATTERNS = compile("/api/sms/**");
+
+    private static final List<PathPattern> EXPORT_PATTERNS = compile("/log/*/export");
+
+    private final Map<RouteClass, Long> costs = new EnumMap<>(RouteClass.class);
+
+    public RateLimitRouteClassifier(@Value("${app.rate-limit.cost.static:0}") long staticCost,
+                                    @Value("${app.rate-limit.cost.health:0}") long healthCost,
+                                    @Value("${app.rate-limit.cost.login:1}") long loginCost,
+                                    @Value("${app.rate-limit.cost.export:20}") long exportCost,
+                                    @Value("${app.rate-limit.cost.write:1}") long writeCost,
+                                    @Value("${app.rate-limit.cost.page:1}") long pageCost) {
+        costs.put(RouteClass.STATIC, staticCost);
+        costs.put(RouteClass.HEALTH, healthCost);
+        costs.put(RouteClass.LOGIN, loginCost);
+        costs.put(RouteClass.EXPORT, exportCost);
+        costs.put(RouteClass.WRITE, writeCost);
+        costs.put(RouteClass.PAGE, pageCost);
+    }
+
+    public RouteClass classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        boolean read = "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+
+        if (read && matches(STATIC_PATTERNS, path)) {
+            return RouteClass.STATIC;
+        }
+        if (read && matches(HEALTH_PATTERNS, path)) {
+            return RouteClass.HEALTH;
+        }
+        if (("POST".equals(method) && matches(LOGIN_PATTERNS, path)) || matches(SMS_PATTERNS, path)) {
+            return RouteClass.LOGIN;
+        }
+        if (!read) {
+            return RouteClass.WRITE;
+        }
+        if (matches(EXPORT_PATTERNS, path)) {
+            return RouteClass.EXPORT;
+        }
+        return RouteClass.PAGE;
+    }
+
+    /**
+     * 분류별 토큰 비용 (0이면 요청 제한 제외)
+     */
+    public long costOf(RouteClass routeClass) {
+        return costs.get(routeClass);
+    }
+
+    private static boolean matches(List<PathPattern> patterns, PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PathPattern> compile(String... patterns) {
+        return Arrays.stream(patterns).map(PARSER::parse).toList();
+    }
+}
@@ -0,0 +1,19 @@
+package gyun.sample.global.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 버킷 저장소 (app.rate-limit.store)
+ * - local(기본): 노드별 메모리 버킷 (LocalRateLimitStore)
+ * - jdbc: PostgreSQL 공유 카운터로 여러 노드가 같은 한도를 공유 (JdbcRateLimitStore)
+ */
+public interface RateLimitStore {
+
+    /**
+     * @param key      정책 + 클라이언트(IP 또는 회원) 키
+     * @param capacity period 동안 허용할 토큰 수
+     * @param period   보충 주기
+     * @param tokens   이번 요청이 소비할 토큰 수
+     */
+    RateLimitResult tryConsume(String key, long capacity, Duration period, long tokens);
+}
@@ -0,0 +1,29 @@
+package gyun.sample.global.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청 제한용 경로 분류 (RateLimitRouteClassifier)
+ * - policy: 토큰을 소비할 버킷 정책
+ * - 토큰 비용은 app.rate-limit.cost.* 로 조정하며, 비용이 0이면 요청 제한에서 제외됩니다. (버킷을 조회하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public enum RouteClass {
+
+    // 정적 리소스 (css, js, 이미지, sw.js, favicon 등) - 페이지 한 번에 여러 건이 함께 요청됨
+    STATIC(RateLimitPolicy.DEFAULT),
+    // 헬스 체크 (로드 밸런서) - 실제 사용자 버킷과 분리
+    HEALTH(RateLimitPolicy.DEFAULT),
+    // 로그인 처리, SMS 발송
+    LOGIN(RateLimitPolicy.LOGIN),
+    // 활동 로그 내보내기 (대용량 스트리밍)
+    EXPORT(RateLimitPolicy.DEFAULT),
+    // 조회가 아닌 요청 (POST/PUT/PATCH/DELETE)
+    WRITE(RateLimitPolicy.WRITE),
+    // 그 외 페이지/API 조회
+    PAGE(RateLimitPolicy.DEFAULT);
+
+    private final RateLimitPolicy policy;
+}
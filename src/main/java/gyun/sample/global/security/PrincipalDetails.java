@@ -3,60 +3,100 @@ package gyun.sample.global.security;
 import gyun.sample.domain.account.enums.AccountRole;
 import gyun.sample.domain.member.entity.Member;
 import gyun.sample.domain.member.enums.MemberType;
-import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.ArrayList;
+import java.io.*;
 import java.util.Collection;
+import java.util.List;
 
 /*
  * Spring Security에서 사용하는 인증 객체 구현체입니다.
  * 타임리프에서 sec:authentication="principal.nickName" 처럼
  * 이 클래스의 필드나 Getter 메서드에 직접 접근할 수 있습니다.
+ *
+ * [성능 개선] Member 엔티티 전체(소셜/리프레시 토큰, 이미지 컬렉션 등) 대신 인증에 필요한 값만 담은 불변 스냅샷입니다.
+ * - 세션 직렬화 시 CompactForm으로 대체되어 필드 값만 기록합니다. (엔티티 클래스 계층 정보 미포함)
+ * - 비밀번호는 로그인 검증에만 사용하고 직렬화하지 않으며, 인증 완료 후 지웁니다. (eraseCredentials)
+ * - version은 Member.sessionVersion 스냅샷으로, 값이 다르면 PrincipalRefreshFilter가 새 스냅샷으로 교체합니다.
  */
-@Getter
-public class PrincipalDetails implements UserDetails {
+public final class PrincipalDetails implements UserDetails, CredentialsContainer {
 
-    private final Member member;
+    @Serial
+    private static final long serialVersionUID = 2L;
+    private static final byte FORMAT_VERSION = 1;
+
+    private final long id;
+    private final String loginId;
+    private final String nickName;
+    private final AccountRole role;
+    private final MemberType memberType;
+    private final long version;
+
+    private transient String password;
 
     public PrincipalDetails(Member member) {
-        this.member = member;
+        this(member.getId(), member.getLoginId(), member.getNickName(), member.getRole(), member.getMemberType(),
+                member.getSessionVersion(), member.getPassword());
+    }
+
+    private PrincipalDetails(long id, String loginId, String nickName, AccountRole role, MemberType memberType,
+                             long version, String password) {
+        this.id = id;
+        this.loginId = loginId;
+        this.nickName = nickName;
+        this.role = role;
+        this.memberType = memberType;
+        this.version = version;
+        this.password = password;
     }
 
     // 타임리프에서 principal.nickName으로 호출될 때 사용됩니다.
     public String getNickName() {
-        return member.getNickName();
+        return nickName;
     }
 
     public Long getId() {
-        return member.getId();
+        return id;
     }
 
     public AccountRole getRole() {
-        return member.getRole();
+        return role;
     }
 
     public MemberType getMemberType() {
-        return member.getMemberType();
+        return memberType;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // 회원 정보가 스냅샷 이후 변경되었는지 여부
+    public boolean isStale(Member member) {
+        return member.getSessionVersion() != version;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + member.getRole().name()));
-        return authorities;
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
     }
 
     @Override
     public String getUsername() {
-        return member.getLoginId();
+        return loginId;
     }
 
     @Override
@@ -76,7 +116,91 @@ public class PrincipalDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        // 필요하다면 member.getActive() == GlobalActiveEnums.ACTIVE 체크를 추가할 수 있습니다.
+        // 비활성(탈퇴) 회원은 ReadAccountService에서 로그인 전에 차단됩니다.
         return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * 형식 버전 + 값만 순서대로 기록합니다. (CompactForm, SessionAttributeCodec 공용)
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        out.writeLong(id);
+        out.writeUTF(loginId);
+        writeNullable(out, nickName);
+        out.writeUTF(role.name());
+        writeNullable(out, memberType != null ? memberType.name() : null);
+        out.writeLong(version);
+    }
+
+    static PrincipalDetails readFrom(DataInput in) throws IOException {
+        byte format = in.readByte();
+        if (format != FORMAT_VERSION) {
+            throw new InvalidObjectException("지원하지 않는 PrincipalDetails 형식: " + format);
+        }
+        long id = in.readLong();
+        String loginId = in.readUTF();
+        String nickName = readNullable(in);
+        AccountRole role = AccountRole.valueOf(in.readUTF());
+        String memberType = readNullable(in);
+        long version = in.readLong();
+        return new PrincipalDetails(id, loginId, nickName, role,
+                memberType != null ? MemberType.valueOf(memberType) : null, version, null);
+    }
+
+    static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return new CompactForm(this);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("PrincipalDetails는 CompactForm으로만 역직렬화할 수 있습니다.");
+    }
+
+    /**
+     * 세션 저장용 직렬화 형식
+     * 기본 직렬화의 필드 메타데이터 대신 writeTo 형식(형식 버전 + 값)만 기록합니다.
+     */
+    static final class CompactForm implements Externalizable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private PrincipalDetails principal;
+
+        // Externalizable 역직렬화에 필요한 기본 생성자
+        public CompactForm() {
+        }
+
+        CompactForm(PrincipalDetails principal) {
+            this.principal = principal;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            principal.writeTo(out);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            this.principal = readFrom(in);
+        }
+
+        @Serial
+        private Object readResolve() {
+            return principal;
+        }
+    }
+}
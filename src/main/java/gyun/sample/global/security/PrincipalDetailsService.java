@@ -2,18 +2,24 @@ package gyun.sample.global.security;
 
 import gyun.sample.domain.account.service.ReadAccountService;
 import gyun.sample.domain.member.entity.Member;
+import gyun.sample.domain.member.repository.MemberRepository;
 import gyun.sample.global.exception.GlobalException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class PrincipalDetailsService implements UserDetailsService {
+public class PrincipalDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final ReadAccountService readAccountService;
+    private final MemberRepository memberRepository;
 
     // 로그인 아이디로 유저 정보 로드 (Spring Security Form Login의 핵심)
     // Spring Security의 기본 Form Login은 'username' 파라미터만 사용하여 이 메서드를 호출합니다.
@@ -30,4 +36,23 @@ public class PrincipalDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * [성능 개선] 로그인 성공 시 저장된 해시가 현재 설정(형식/강도)보다 낮으면 DaoAuthenticationProvider가 호출합니다.
+     * 입력 비밀번호를 현재 설정으로 다시 해시한 값을 저장합니다. (비밀번호 변경이 아니므로 세션 버전은 유지)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        if (!(user instanceof PrincipalDetails principal)) {
+            return user;
+        }
+        return memberRepository.findById(principal.getId())
+                .map(member -> {
+                    member.upgradePasswordHash(newPassword);
+                    log.info("[Password] 비밀번호 해시 갱신: {}", member.getLoginId());
+                    return (UserDetails) new PrincipalDetails(member);
+                })
+                .orElse(user);
+    }
+}
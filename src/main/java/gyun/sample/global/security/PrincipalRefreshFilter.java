@@ -0,0 +1,103 @@
+package gyun.sample.global.security;
+
+import gyun.sample.domain.member.entity.Member;
+import gyun.sample.domain.member.repository.MemberRepository;
+import gyun.sample.global.enums.GlobalActiveEnums;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 세션 Principal 스냅샷 갱신 필터
+ * - 세션에 저장된 PrincipalDetails는 로그인 시점의 스냅샷이므로, 다른 곳(관리자 권한 변경, 다른 기기의 정보 수정 등)에서
+ * 회원 정보가 바뀌면 오래된 값이 남습니다.
+ * - 세션마다 refresh-interval 간격으로 회원(2차 캐시)을 조회하여 sessionVersion이 다르면 새 스냅샷으로 교체하고,
+ * 탈퇴/비활성화된 회원이면 세션을 무효화합니다.
+ * - 본인 정보 수정 시에는 MemberController에서 즉시 교체합니다.
+ * - 정적 리소스 요청은 건너뜁니다. (SecurityContext/세션을 조회하지 않으므로 세션 저장소 접근이 발생하지 않음)
+ */
+@Slf4j
+public class PrincipalRefreshFilter extends OncePerRequestFilter {
+
+    private static final String CHECKED_AT = PrincipalRefreshFilter.class.getName() + ".CHECKED_AT";
+
+    private final MemberRepository memberRepository;
+    private final SecurityContextRepository securityContextRepository;
+    private final long intervalMillis;
+    private final RequestMatcher skipMatcher;
+
+    public PrincipalRefreshFilter(MemberRepository memberRepository,
+                                  SecurityContextRepository securityContextRepository,
+                                  long intervalMillis,
+                                  RequestMatcher skipMatcher) {
+        this.memberRepository = memberRepository;
+        this.securityContextRepository = securityContextRepository;
+        this.intervalMillis = intervalMillis;
+        this.skipMatcher = skipMatcher;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return skipMatcher.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        HttpSession session = request.getSession(false);
+
+        if (session != null && authentication != null
+                && authentication.getPrincipal() instanceof PrincipalDetails principal
+                && isCheckDue(session)) {
+            session.setAttribute(CHECKED_AT, System.currentTimeMillis());
+            refresh(request, response, session, authentication, principal);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isCheckDue(HttpSession session) {
+        Object checkedAt = session.getAttribute(CHECKED_AT);
+        return !(checkedAt instanceof Long last) || System.currentTimeMillis() - last >= intervalMillis;
+    }
+
+    private void refresh(HttpServletRequest request, HttpServletResponse response, HttpSession session,
+                         Authentication authentication, PrincipalDetails principal) {
+        Optional<Member> member = memberRepository.findById(principal.getId());
+
+        if (member.isEmpty() || member.get().getActive() != GlobalActiveEnums.ACTIVE) {
+            log.info("[Principal] 비활성화된 회원의 세션 종료: {}", principal.getUsername());
+            SecurityContextHolder.clearContext();
+            session.invalidate();
+            return;
+        }
+
+        if (principal.isStale(member.get())) {
+            PrincipalDetails refreshed = new PrincipalDetails(member.get());
+            refreshed.eraseCredentials();
+
+            UsernamePasswordAuthenticationToken newAuthentication =
+                    new UsernamePasswordAuthenticationToken(refreshed, null, refreshed.getAuthorities());
+            newAuthentication.setDetails(authentication.getDetails());
+
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(newAuthentication);
+            SecurityContextHolder.setContext(context);
+            securityContextRepository.saveContext(context, request, response);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package gyun.sample.global.security;
+
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import java.io.*;
+
+/**
+ * 세션 속성 바이너리 코덱 (외부 세션 저장소의 속성 값 직렬화)
+ * - 세션에 가장 많이 저장되는 값(로그인 SecurityContext, CSRF 토큰, 숫자/문자열)은
+ * 클래스 메타데이터 없이 [형식 태그 1바이트 + 값]으로 기록합니다.
+ * (Java 직렬화 시 SecurityContext 1건이 약 1KB, 이 형식은 약 60바이트)
+ * - 그 외 값(저장된 요청 등)은 기존처럼 Java 직렬화로 기록합니다. Java 직렬화 스트림은 항상 0xAC로 시작하므로 태그와 겹치지 않습니다.
+ */
+public class SessionAttributeCodec {
+
+    private static final byte TAG_SECURITY_CONTEXT = 1;
+    private static final byte TAG_CSRF_TOKEN = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_STRING = 4;
+
+    private final SerializingConverter javaSerializer = new SerializingConverter();
+    private final DeserializingConverter javaDeserializer;
+
+    public SessionAttributeCodec(ClassLoader classLoader) {
+        this.javaDeserializer = new DeserializingConverter(classLoader);
+    }
+
+    public byte[] serialize(Object value) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            if (!writeCompact(out, value)) {
+                return javaSerializer.convert(value);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationFailedException("세션 속성 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    public Object deserialize(byte[] source) {
+        if (source.length == 0 || source[0] == (byte) 0xAC) {
+            return javaDeserializer.convert(source);
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(source, 1, source.length - 1));
+            return switch (source[0]) {
+                case TAG_SECURITY_CONTEXT -> readSecurityContext(in);
+                case TAG_CSRF_TOKEN -> new DefaultCsrfToken(in.readUTF(), in.readUTF(), in.readUTF());
+                case TAG_LONG -> in.readLong();
+                case TAG_STRING -> in.readUTF();
+                default -> throw new InvalidObjectException("지원하지 않는 세션 속성 형식: " + source[0]);
+            };
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationFailedException("세션 속성 역직렬화 실패", e);
+        }
+    }
+
+    // 압축 형식으로 표현할 수 있으면 기록 후 true, 아니면 아무것도 쓰지 않고 false
+    private boolean writeCompact(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof SecurityContext context && isCompactSecurityContext(context)) {
+            UsernamePasswordAuthenticationToken token = (UsernamePasswordAuthenticationToken) context.getAuthentication();
+            out.writeByte(TAG_SECURITY_CONTEXT);
+            ((PrincipalDetails) token.getPrincipal()).writeTo(out);
+            WebAuthenticationDetails details = (WebAuthenticationDetails) token.getDetails();
+            out.writeBoolean(details != null);
+            if (details != null) {
+                PrincipalDetails.writeNullable(out, details.getRemoteAddress());
+                PrincipalDetails.writeNullable(out, details.getSessionId());
+            }
+            return true;
+        }
+        if (value instanceof DefaultCsrfToken csrfToken) {
+            out.writeByte(TAG_CSRF_TOKEN);
+            out.writeUTF(csrfToken.getHeaderName());
+            out.writeUTF(csrfToken.getParameterName());
+            out.writeUTF(csrfToken.getToken());
+            return true;
+        }
+        if (value instanceof Long number) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(number);
+            return true;
+        }
+        // writeUTF 상한(65535바이트)을 넘을 수 있는 긴 문자열은 Java 직렬화로 처리
+        if (value instanceof String text && text.length() <= 16_000) {
+            out.writeByte(TAG_STRING);
+            out.writeUTF(text);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 폼 로그인/소셜 로그인/스냅샷 교체로 만들어진 형태(PrincipalDetails + 권한은 역할에서 파생 + 자격 증명 없음)만 압축합니다.
+     * 다른 형태가 섞여 있으면 값을 잃지 않도록 Java 직렬화를 사용합니다.
+     */
+    private static boolean isCompactSecurityContext(SecurityContext context) {
+        if (context.getClass() != SecurityContextImpl.class) {
+            return false;
+        }
+        Authentication authentication = context.getAuthentication();
+        return authentication != null
+                && authentication.getClass() == UsernamePasswordAuthenticationToken.class
+                && authentication.isAuthenticated()
+                && authentication.getCredentials() == null
+                && authentication.getPrincipal() instanceof PrincipalDetails principal
+                && authentication.getAuthorities().equals(principal.getAuthorities())
+                && (authentication.getDetails() == null || authentication.getDetails().getClass() == WebAuthenticationDetails.class);
+    }
+
+    private static SecurityContext readSecurityContext(DataInput in) throws IOException {
+        PrincipalDetails principal = PrincipalDetails.readFrom(in);
+        UsernamePasswordAuthenticationToken token =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        if (in.readBoolean()) {
+            token.setDetails(new WebAuthenticationDetails(PrincipalDetails.readNullable(in), PrincipalDetails.readNullable(in)));
+        }
+        return new SecurityContextImpl(token);
+    }
+}
@@ -4,6 +4,8 @@ import gyun.sample.domain.log.enums.LogType;
 import gyun.sample.domain.log.event.MemberActivityEvent;
 import gyun.sample.domain.member.entity.Member;
 import gyun.sample.domain.member.repository.MemberRepository;
+import gyun.sample.global.security.password.PasswordHashingRejectedException;
+import gyun.sample.global.security.throttle.LoginThrottledException;
 import gyun.sample.global.utils.UtilService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +34,14 @@ public class CustomAuthFailureHandler extends SimpleUrlAuthenticationFailureHand
 
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException, ServletException {
+        // [성능 개선] 실패 제한으로 거절된 시도는 비밀번호 확인 전에 막힌 반복 요청이므로 회원 조회/로그 저장을 생략
+        // (잠금에 이른 실패는 이미 기록되었고, 거절 건수는 login.throttle.rejected 지표로 확인)
+        if (exception instanceof LoginThrottledException) {
+            setDefaultFailureUrl("/account/login?error");
+            super.onAuthenticationFailure(request, response, exception);
+            return;
+        }
+
         String loginId = request.getParameter("loginId");
         String clientIp = UtilService.getClientIp(request);
 
@@ -67,6 +77,8 @@ public class CustomAuthFailureHandler extends SimpleUrlAuthenticationFailureHand
             return "비밀번호 불일치";
         } else if (exception instanceof UsernameNotFoundException) {
             return "계정 없음";
+        } else if (exception instanceof PasswordHashingRejectedException) {
+            return "로그인 요청 과다 (비밀번호 처리 거절)";
         } else if (exception instanceof InternalAuthenticationServiceException) {
             return "내부 시스템 에러";
         } else if (exception instanceof LockedException) {
@@ -0,0 +1,141 @@
+package gyun.sample.global.security.password;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.*;
+
+/**
+ * 비밀번호 해시 실행 제한 + 검증 결과 캐시 PasswordEncoder
+ * - BCrypt 연산(encode/matches)은 고정 크기 플랫폼 스레드 풀에서만 실행합니다.
+ * 가상 스레드 요청이 몰려도 해시 연산은 최대 threads개만 동시에 CPU를 사용하고,
+ * 대기열(queue-capacity)이 가득 차거나 timeout 안에 끝나지 않으면 즉시 PasswordHashingRejectedException으로 거절합니다.
+ * - 검증 캐시: 일치 확인에 성공한 (해시, 비밀번호) 쌍을 프로세스별 임의 키의 HMAC-SHA256으로만 기억하여,
+ * 같은 계정의 반복 로그인은 BCrypt 없이 확인합니다. 원문 비밀번호는 저장하지 않으며, 비밀번호가 바뀌면 해시가 달라져 캐시가 자연히 무효화됩니다.
+ * (불일치 결과는 캐시하지 않으므로 무차별 대입 비용은 줄어들지 않습니다)
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    // null이면 검증 캐시 미사용
+    private final Cache<String, byte[]> verified;
+    private final SecretKeySpec verifiedKey;
+
+    private final Counter rejected;
+    private final Counter cacheHits;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry,
+                                  int threads, int queueCapacity, long timeoutMillis,
+                                  boolean verifiedCacheEnabled, Duration verifiedCacheTtl, long verifiedCacheMaxEntries) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        if (verifiedCacheEnabled) {
+            this.verified = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaxEntries)
+                    .expireAfterWrite(verifiedCacheTtl)
+                    .build();
+            byte[] key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            this.verifiedKey = new SecretKeySpec(key, "HmacSHA256");
+        } else {
+            this.verified = null;
+            this.verifiedKey = null;
+        }
+
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected").register(meterRegistry);
+        this.cacheHits = Counter.builder("password.hash.verified.cache.hits").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        if (verified != null) {
+            byte[] cached = verified.getIfPresent(encodedPassword);
+            if (cached != null && MessageDigest.isEqual(cached, mac(rawPassword))) {
+                cacheHits.increment();
+                return true;
+            }
+        }
+
+        boolean matched = execute(() -> delegate.matches(rawPassword, encodedPassword));
+        if (matched && verified != null) {
+            verified.put(encodedPassword, mac(rawPassword));
+        }
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException("비밀번호 처리 요청이 많아 잠시 후 다시 시도해주세요.", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingRejectedException("비밀번호 처리 대기 시간을 초과했습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("비밀번호 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 실패", e.getCause());
+        }
+    }
+
+    private byte[] mac(CharSequence rawPassword) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(verifiedKey);
+            return mac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package gyun.sample.global.security.password;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해시 전용 실행기가 포화(대기열 초과/대기 시간 초과)되어 요청을 처리하지 못한 경우
+ * 로그인 경로에서는 인증 실패(CustomAuthFailureHandler)로 처리됩니다.
+ */
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    public PasswordHashingRejectedException(String msg) {
+        super(msg);
+    }
+
+    public PasswordHashingRejectedException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
@@ -0,0 +1,49 @@
+package gyun.sample.global.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt 강도(cost) 보정
+ * - 낮은 강도(PROBE_STRENGTH)로 실제 해시 시간을 측정하고, 강도가 1 오를 때마다 시간이 2배가 되는 점을 이용해
+ * 목표 시간 이하인 가장 높은 강도를 고릅니다. (측정 비용 수십 ms)
+ * - 측정값은 서버 CPU에 따라 달라지므로 결과를 로그로 남깁니다. 노드 간 강도가 달라도 해시에 강도가 기록되어 검증에는 문제가 없습니다.
+ */
+@Slf4j
+public final class PasswordStrengthCalibrator {
+
+    private static final int PROBE_STRENGTH = 6;
+    private static final int PROBE_ROUNDS = 5;
+
+    private PasswordStrengthCalibrator() {
+    }
+
+    /**
+     * @param minStrength  최소 강도 (측정 결과와 관계없이 이 값 미만으로 내려가지 않음)
+     * @param maxStrength  최대 강도
+     * @param targetMillis 해시 1회 목표 시간
+     */
+    public static int calibrate(int minStrength, int maxStrength, long targetMillis) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        probe.encode("calibration-warm-up"); // JIT 예열
+
+        long start = System.nanoTime();
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            probe.encode("calibration-" + i);
+        }
+        double probeMillis = (System.nanoTime() - start) / 1_000_000.0 / PROBE_ROUNDS;
+
+        int strength = minStrength;
+        while (strength < maxStrength && estimate(probeMillis, strength + 1) <= targetMillis) {
+            strength++;
+        }
+        log.info("[Password] BCrypt 강도 보정: strength={}, 예상 해시 시간={}ms (목표 {}ms, 측정 기준 strength {}: {}ms)",
+                strength, Math.round(estimate(probeMillis, strength)), targetMillis, PROBE_STRENGTH,
+                String.format("%.2f", probeMillis));
+        return strength;
+    }
+
+    private static double estimate(double probeMillis, int strength) {
+        return probeMillis * Math.pow(2, strength - PROBE_STRENGTH);
+    }
+}
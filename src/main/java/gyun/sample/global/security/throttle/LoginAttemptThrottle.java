@@ -0,0 +1,123 @@
+package gyun.sample.global.security.throttle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로그인 무차별 대입 제한
+ * - 로그인 ID별, 클라이언트 IP별 실패 횟수를 슬라이딩 윈도(window-minutes)로 집계합니다.
+ * - 실패가 delay-threshold 이상이면 마지막 실패 후 점진적 대기 시간(base-delay * 2^n, 최대 max-delay) 동안,
+ * lock-threshold 이상이면 윈도에서 실패가 빠질 때까지 LoginThrottledException(LockedException)으로 거절합니다.
+ * - 거절은 비밀번호 해시 확인 전에 일어나므로 크리덴셜 스터핑이 BCrypt CPU 부하와 활동 로그 저장으로 이어지지 않습니다.
+ * - 대기는 요청 스레드를 잡아두지 않고 즉시 거절하는 방식입니다.
+ */
+@Slf4j
+@Component
+public class LoginAttemptThrottle {
+
+    private static final int WINDOW_BUCKETS = 15;
+    private static final int STRIPES = 64;
+
+    private final SlidingWindowCounter accountFailures;
+    private final SlidingWindowCounter ipFailures;
+    private final Counter rejected;
+
+    @Value("${app.security.login-throttle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.security.login-throttle.account.delay-threshold:3}")
+    private int accountDelayThreshold;
+
+    @Value("${app.security.login-throttle.account.lock-threshold:10}")
+    private int accountLockThreshold;
+
+    // 같은 IP(NAT, 사내망)에서 여러 사용자가 로그인할 수 있으므로 계정보다 높게 설정
+    @Value("${app.security.login-throttle.ip.delay-threshold:20}")
+    private int ipDelayThreshold;
+
+    @Value("${app.security.login-throttle.ip.lock-threshold:50}")
+    private int ipLockThreshold;
+
+    @Value("${app.security.login-throttle.base-delay-ms:1000}")
+    private long baseDelayMillis;
+
+    @Value("${app.security.login-throttle.max-delay-ms:30000}")
+    private long maxDelayMillis;
+
+    private final long windowMillis;
+
+    public LoginAttemptThrottle(MeterRegistry meterRegistry,
+                                @Value("${app.security.login-throttle.window-minutes:15}") long windowMinutes,
+                                @Value("${app.security.login-throttle.max-keys:100000}") int maxKeys) {
+        Duration window = Duration.ofMinutes(windowMinutes);
+        this.windowMillis = window.toMillis();
+        this.accountFailures = new SlidingWindowCounter(window, WINDOW_BUCKETS, STRIPES, maxKeys);
+        this.ipFailures = new SlidingWindowCounter(window, WINDOW_BUCKETS, STRIPES, maxKeys);
+        this.rejected = Counter.builder("login.throttle.rejected").register(meterRegistry);
+    }
+
+    /**
+     * 인증 시도 전 확인 (제한 중이면 LoginThrottledException)
+     */
+    public void checkAllowed(String loginId, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        check(accountFailures.get(accountKey(loginId), now), accountDelayThreshold, accountLockThreshold, now);
+        if (clientIp != null) {
+            check(ipFailures.get(clientIp, now), ipDelayThreshold, ipLockThreshold, now);
+        }
+    }
+
+    public void recordFailure(String loginId, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int failures = accountFailures.increment(accountKey(loginId), now);
+        if (failures == accountLockThreshold) {
+            log.warn("[Login Throttle] 계정 로그인 잠금: {} ({}회 실패)", loginId, failures);
+        }
+        if (clientIp != null && ipFailures.increment(clientIp, now) == ipLockThreshold) {
+            log.warn("[Login Throttle] IP 로그인 잠금: {} ({}회 실패)", clientIp, ipLockThreshold);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 계정 실패 기록만 초기화 (IP 기록은 같은 IP의 다른 계정 대입 시도를 위해 유지)
+     */
+    public void recordSuccess(String loginId) {
+        if (enabled) {
+            accountFailures.reset(accountKey(loginId));
+        }
+    }
+
+    private void check(SlidingWindowCounter.Snapshot failures, int delayThreshold, int lockThreshold, long now) {
+        if (failures.count() >= lockThreshold) {
+            rejected.increment();
+            // 가장 최근 실패가 윈도에서 빠지기 전까지는 잠금 유지 (정확한 해제 시각은 버킷 단위로 더 빠를 수 있음)
+            long retryAfter = Math.max(1, (failures.lastAt() + windowMillis - now) / 1000);
+            throw new LoginThrottledException("로그인 실패가 많아 잠시 로그인할 수 없습니다.", retryAfter);
+        }
+        if (failures.count() >= delayThreshold) {
+            int exponent = Math.min(failures.count() - delayThreshold, 20);
+            long delay = Math.min(maxDelayMillis, baseDelayMillis << exponent);
+            long waited = now - failures.lastAt();
+            if (waited < delay) {
+                rejected.increment();
+                throw new LoginThrottledException("잠시 후 다시 로그인해주세요.", Math.max(1, (delay - waited) / 1000));
+            }
+        }
+    }
+
+    private static String accountKey(String loginId) {
+        return loginId == null ? "" : loginId.trim().toLowerCase(Locale.ROOT);
+    }
+}
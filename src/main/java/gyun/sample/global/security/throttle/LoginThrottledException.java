@@ -0,0 +1,21 @@
+package gyun.sample.global.security.throttle;
+
+import org.springframework.security.authentication.LockedException;
+
+/**
+ * 로그인 실패 누적으로 인증 시도가 거절된 경우 (비밀번호 확인 전에 발생)
+ * CustomAuthFailureHandler에서 일반 실패와 구분하여 회원 조회/로그 저장을 생략합니다.
+ */
+public class LoginThrottledException extends LockedException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String msg, long retryAfterSeconds) {
+        super(msg);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
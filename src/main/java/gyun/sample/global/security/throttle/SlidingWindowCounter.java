@@ -0,0 +1,126 @@
+package gyun.sample.global.security.throttle;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키별 슬라이딩 윈도 카운터 (시간 버킷 + 스트라이프 잠금 + 키 수 상한)
+ * - 윈도를 buckets개의 시간 버킷으로 나누어 버킷별 개수만 보관합니다. (키당 고정 크기 배열, 이벤트 시각 목록을 쌓지 않음)
+ * - 키 해시로 스트라이프를 고르고 스트라이프마다 잠금을 따로 두어 경합을 나눕니다.
+ * (가상 스레드 고정(pinning)을 피하기 위해 synchronized 대신 ReentrantLock 사용)
+ * - 스트라이프마다 LRU 상한을 두어 무작위 키(위조 IP, 임의 로그인 ID)가 몰려도 메모리가 늘지 않습니다.
+ */
+public class SlidingWindowCounter {
+
+    private final Stripe[] stripes;
+    private final long bucketMillis;
+    private final int buckets;
+
+    public SlidingWindowCounter(Duration window, int buckets, int stripeCount, int maxKeys) {
+        this.buckets = buckets;
+        this.bucketMillis = Math.max(1, window.toMillis() / buckets);
+        this.stripes = new Stripe[stripeCount];
+        int maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+    }
+
+    /**
+     * 현재 시각 버킷에 1을 더하고 윈도 내 합계를 반환합니다.
+     */
+    public int increment(String key, long now) {
+        Stripe stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            Window window = stripe.windows.computeIfAbsent(key, k -> new Window(buckets));
+            long epoch = now / bucketMillis;
+            int index = (int) (epoch % buckets);
+            if (window.epochs[index] != epoch) {
+                window.epochs[index] = epoch;
+                window.counts[index] = 0;
+            }
+            window.counts[index]++;
+            window.lastAt = now;
+            return window.sum(epoch);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 윈도 내 합계와 마지막 증가 시각
+     */
+    public Snapshot get(String key, long now) {
+        Stripe stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            Window window = stripe.windows.get(key);
+            if (window == null) {
+                return Snapshot.EMPTY;
+            }
+            int count = window.sum(now / bucketMillis);
+            return count == 0 ? Snapshot.EMPTY : new Snapshot(count, window.lastAt);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void reset(String key) {
+        Stripe stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            stripe.windows.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripeOf(String key) {
+        int hash = key.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    public record Snapshot(int count, long lastAt) {
+        static final Snapshot EMPTY = new Snapshot(0, 0L);
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Window> windows;
+
+        Stripe(int maxKeys) {
+            this.windows = new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    private static final class Window {
+
+        private final int[] counts;
+        private final long[] epochs;
+        private long lastAt;
+
+        Window(int buckets) {
+            this.counts = new int[buckets];
+            this.epochs = new long[buckets];
+        }
+
+        int sum(long currentEpoch) {
+            int total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (epochs[i] > currentEpoch - counts.length && epochs[i] <= currentEpoch) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package gyun.sample.global.security.throttle;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * 로그인 실패 제한(LoginAttemptThrottle)을 적용한 DaoAuthenticationProvider
+ * - 회원 조회/비밀번호 해시 확인 전에 제한 여부를 확인하고, 결과(성공/실패)를 기록합니다.
+ * - 클라이언트 IP는 SecurityConfig에서 지정한 인증 details(신뢰 프록시 기준 IP)를 사용합니다.
+ */
+public class ThrottledAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final LoginAttemptThrottle loginAttemptThrottle;
+
+    public ThrottledAuthenticationProvider(LoginAttemptThrottle loginAttemptThrottle) {
+        this.loginAttemptThrottle = loginAttemptThrottle;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String loginId = authentication.getName();
+        String clientIp = authentication.getDetails() instanceof WebAuthenticationDetails details
+                ? details.getRemoteAddress() : null;
+
+        loginAttemptThrottle.checkAllowed(loginId, clientIp);
+        try {
+            Authentication result = super.authenticate(authentication);
+            loginAttemptThrottle.recordSuccess(loginId);
+            return result;
+        } catch (BadCredentialsException | UsernameNotFoundException e) {
+            loginAttemptThrottle.recordFailure(loginId, clientIp);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package gyun.sample.global.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 신뢰 프록시 기반 클라이언트 IP 판별
+ * - 직접 연결한 주소(remoteAddr)가 신뢰 프록시일 때만 X-Forwarded-For를 사용합니다.
+ * (클라이언트가 임의로 넣은 X-Forwarded-For 값으로 IP를 위조하여 요청 제한/로그를 우회하는 것을 방지)
+ * - X-Forwarded-For를 오른쪽(가장 가까운 프록시)부터 거슬러 올라가며 신뢰 프록시가 아닌 첫 주소를 클라이언트로 판단합니다.
+ * - 판별 결과는 요청 속성(ATTRIBUTE)에 저장되어 UtilService.getClientIp에서도 같은 값을 사용합니다.
+ */
+@Component
+public class ClientIpResolver {
+
+    public static final String ATTRIBUTE = ClientIpResolver.class.getName() + ".CLIENT_IP";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${app.web.trusted-proxies:127.0.0.1/32,::1/128,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16}")
+                            List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(cidr -> !cidr.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        if (request.getAttribute(ATTRIBUTE) instanceof String cached) {
+            return cached;
+        }
+        String clientIp = resolveFromHeaders(request);
+        request.setAttribute(ATTRIBUTE, clientIp);
+        return clientIp;
+    }
+
+    private String resolveFromHeaders(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank() || !isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            if (!isTrusted(hop)) {
+                return hop;
+            }
+        }
+        // 모든 경로가 신뢰 프록시이면 가장 앞(원 요청자) 주소
+        String first = hops[0].trim();
+        return first.isEmpty() ? remoteAddr : first;
+    }
+
+    private boolean isTrusted(String address) {
+        // IP 형식이 아닌 값(위조 헤더의 호스트명 등)은 DNS 조회 없이 신뢰하지 않음
+        if (!isIpLiteral(address)) {
+            return false;
+        }
+        try {
+            for (IpAddressMatcher matcher : trustedProxies) {
+                if (matcher.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return false;
+    }
+
+    private static boolean isIpLiteral(String address) {
+        if (address == null || address.isEmpty() || address.length() > 45) {
+            return false;
+        }
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (!(Character.digit(c, 16) >= 0 || c == '.' || c == ':')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
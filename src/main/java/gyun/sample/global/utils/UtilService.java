@@ -24,6 +24,10 @@ public class UtilService {
     // 클라이언트의 IP 주소를 가져오는 메소드
     public static String getClientIp(HttpServletRequest request) {
         try {
+            // 요청 제한 필터(RateLimitFilter)에서 신뢰 프록시 기준으로 판별한 값이 있으면 우선 사용
+            if (request.getAttribute(ClientIpResolver.ATTRIBUTE) instanceof String clientIp) {
+                return clientIp;
+            }
             String xForwardedForHeader = request.getHeader("X-Forwarded-For");
             if (xForwardedForHeader != null) {
                 return xForwardedForHeader.split(",")[0].trim();
@@ -0,0 +1,10 @@
+-- 게시글 검색 인덱스 (JPA @Index로 GIN/식 인덱스를 정의할 수 없어 별도 관리)
+-- tsvector GIN: 단어 단위 검색 (fts_match) / pg_trgm GIN: 부분 문자열 검색 (LIKE '%키워드%')
+-- pg_trgm 설치 권한이 없으면 trigram 인덱스만 실패하고 검색은 인덱스 없이 동작
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_post_search_fts ON post USING GIN (to_tsvector('simple', search_text));
+CREATE INDEX IF NOT EXISTS idx_post_search_trgm ON post USING GIN (search_text gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_post_title_trgm ON post USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_member_nick_name_trgm ON member USING GIN (lower(nick_name) gin_trgm_ops);
+-- searchText 백필 전 게시글만 가리키는 부분 인덱스 (백필 완료 후에는 비어 있음, PostSpecification.legacyMatches)
+CREATE INDEX IF NOT EXISTS idx_post_search_text_null ON post (post_id) WHERE search_text IS NULL;
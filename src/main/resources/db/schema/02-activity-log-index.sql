@@ -0,0 +1,25 @@
+-- 활동 로그 탐색(LogSpecification)용 인덱스
+-- B-Tree 복합 인덱스: (필터 컬럼, created_at, log_id) - 필터 + 기간 + Keyset 정렬을 한 번의 인덱스 범위 스캔으로 처리
+-- 부모(파티션) 테이블에 만든 인덱스는 기존/향후 모든 월 파티션에 자동으로 생성됨
+
+-- 단일 컬럼 인덱스는 복합 인덱스로 대체
+DROP INDEX IF EXISTS idx_member_log_created_at;
+DROP INDEX IF EXISTS idx_post_log_created_at;
+DROP INDEX IF EXISTS idx_post_log_post_id;
+
+CREATE INDEX IF NOT EXISTS idx_member_log_created ON member_log (created_at, log_id);
+CREATE INDEX IF NOT EXISTS idx_member_log_member_created ON member_log (member_id, created_at, log_id);
+CREATE INDEX IF NOT EXISTS idx_member_log_type_created ON member_log (log_type, created_at, log_id);
+CREATE INDEX IF NOT EXISTS idx_member_log_ip_created ON member_log (client_ip, created_at, log_id);
+CREATE INDEX IF NOT EXISTS idx_member_log_executor_created ON member_log (created_by, created_at, log_id);
+
+CREATE INDEX IF NOT EXISTS idx_post_log_created ON post_log (created_at, log_id);
+CREATE INDEX IF NOT EXISTS idx_post_log_post_created ON post_log (post_id, created_at, log_id);
+CREATE INDEX IF NOT EXISTS idx_post_log_type_created ON post_log (log_type, created_at, log_id);
+CREATE INDEX IF NOT EXISTS idx_post_log_ip_created ON post_log (client_ip, created_at, log_id);
+CREATE INDEX IF NOT EXISTS idx_post_log_executor_created ON post_log (executor_id, created_at, log_id);
+
+-- 로그인 ID/게시글 제목 부분 일치(LIKE '%키워드%')
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_member_log_login_id_trgm ON member_log USING GIN (lower(login_id) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_post_log_post_title_trgm ON post_log USING GIN (lower(post_title) gin_trgm_ops);
@@ -0,0 +1,8 @@
+-- 요청 제한 공유 카운터 (app.rate-limit.store=jdbc, JdbcRateLimitStore)
+-- 유실되어도 되는 고정 창 카운터이므로 WAL을 쓰지 않는 UNLOGGED 테이블
+CREATE UNLOGGED TABLE IF NOT EXISTS rate_limit_counter (
+    bucket_key   VARCHAR(200) NOT NULL,
+    window_start BIGINT       NOT NULL,
+    tokens       BIGINT       NOT NULL,
+    PRIMARY KEY (bucket_key, window_start)
+);
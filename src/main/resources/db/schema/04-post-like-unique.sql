@@ -0,0 +1,15 @@
+-- 게시글 좋아요 중복 정리 + UNIQUE 인덱스 (멱등 INSERT ... ON CONFLICT (post_id, member_id)의 전제 조건)
+-- 중복이 남아 있으면 ddl-auto의 uk_post_like_post_member 제약 생성도 실패하므로 여기서 먼저 정리
+
+-- 가장 먼저 생성된 행만 남기고, 삭제한 중복 수만큼 늘어나 있던 like_count를 되돌림
+WITH removed AS (
+    DELETE FROM post_like a USING post_like b
+    WHERE a.post_id = b.post_id AND a.member_id = b.member_id AND a.post_like_id > b.post_like_id
+    RETURNING a.post_id
+)
+UPDATE post p SET like_count = GREATEST(p.like_count - r.cnt, 0)
+FROM (SELECT post_id, COUNT(*) AS cnt FROM removed GROUP BY post_id) r
+WHERE p.post_id = r.post_id;
+
+-- ddl-auto가 제약을 만들었으면 같은 이름이 이미 있으므로 건너뜀
+CREATE UNIQUE INDEX IF NOT EXISTS uk_post_like_post_member ON post_like (post_id, member_id);
@@ -0,0 +1,178 @@
+package gyun.sample.domain.board.service.common;
+
+import gyun.sample.domain.board.repository.PostLikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class MemberLikedPostIndexTest {
+
+    private static final long MEMBER_ID = 1L;
+
+    private PostLikeRepository postLikeRepository;
+    private MemberLikedPostIndex index;
+
+    @BeforeEach
+    void setUp() {
+        postLikeRepository = mock(PostLikeRepository.class);
+        index = new MemberLikedPostIndex(postLikeRepository, new SimpleMeterRegistry(), true, 1024 * 1024, 600);
+    }
+
+    @Test
+    void 첫_확인_시_한_번만_적재하고_이후에는_메모리에서_판별한다() {
+        when(postLikeRepository.findPostIdsByMemberId(MEMBER_ID)).thenReturn(List.of(10L, 20L));
+
+        assertThat(index.isLiked(MEMBER_ID, 10L)).isTrue();
+        assertThat(index.isLiked(MEMBER_ID, 11L)).isFalse();
+        assertThat(index.findLiked(MEMBER_ID, List.of(10L, 11L, 20L))).containsExactlyInAnyOrder(10L, 20L);
+
+        verify(postLikeRepository, times(1)).findPostIdsByMemberId(MEMBER_ID);
+        verify(postLikeRepository, never()).existsByPostIdAndMemberId(anyLong(), anyLong());
+    }
+
+    @Test
+    void 비로그인_회원은_조회하지_않는다() {
+        assertThat(index.isLiked(0L, 10L)).isFalse();
+        assertThat(index.findLiked(0L, List.of(10L))).isEmpty();
+
+        verifyNoInteractions(postLikeRepository);
+    }
+
+    @Test
+    void 적재된_집합에_좋아요와_취소를_재적재_없이_반영한다() {
+        when(postLikeRepository.findPostIdsByMemberId(MEMBER_ID)).thenReturn(List.of(10L));
+        index.isLiked(MEMBER_ID, 10L);
+
+        index.updateAfterCommit(MEMBER_ID, 20L, true);
+        index.updateAfterCommit(MEMBER_ID, 10L, false);
+
+        assertThat(index.findLiked(MEMBER_ID, List.of(10L, 20L))).containsExactly(20L);
+        verify(postLikeRepository, times(1)).findPostIdsByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    void 적재_전_변경은_기록하지_않고_다음_확인_시_DB에서_적재한다() {
+        index.updateAfterCommit(MEMBER_ID, 10L, true);
+        when(postLikeRepository.findPostIdsByMemberId(MEMBER_ID)).thenReturn(List.of(10L));
+
+        assertThat(index.isLiked(MEMBER_ID, 10L)).isTrue();
+        verify(postLikeRepository, times(1)).findPostIdsByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    void 트랜잭션_안의_변경은_커밋_이후에_반영한다() {
+        when(postLikeRepository.findPostIdsByMemberId(MEMBER_ID)).thenReturn(List.of());
+        index.isLiked(MEMBER_ID, 10L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.updateAfterCommit(MEMBER_ID, 10L, true);
+            assertThat(index.isLiked(MEMBER_ID, 10L)).isFalse();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(index.isLiked(MEMBER_ID, 10L)).isTrue();
+    }
+
+    @Test
+    void 적재_중_변경이_일어나면_항목을_버리고_다시_적재한다() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(postLikeRepository.findPostIdsByMemberId(MEMBER_ID))
+                .thenAnswer(invocation -> {
+                    // 변경 이전 시점의 조회 결과
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                })
+                .thenReturn(List.of(10L));
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> index.isLiked(MEMBER_ID, 10L));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        index.updateAfterCommit(MEMBER_ID, 10L, true);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isFalse();
+        // 오래된 적재 결과가 남지 않고 다시 적재하여 변경이 보임
+        assertThat(index.isLiked(MEMBER_ID, 10L)).isTrue();
+        verify(postLikeRepository, times(2)).findPostIdsByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    void 동시_확인은_적재_1회로_병합한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(postLikeRepository.findPostIdsByMemberId(MEMBER_ID)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(10L);
+        });
+
+        List<CompletableFuture<Boolean>> checks = LongStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> index.isLiked(MEMBER_ID, 10L)))
+                .toList();
+        Thread.sleep(100);
+        release.countDown();
+
+        for (CompletableFuture<Boolean> check : checks) {
+            assertThat(check.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        verify(postLikeRepository, times(1)).findPostIdsByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    void 적재_실패는_전파하고_다음_확인에서_다시_적재한다() {
+        when(postLikeRepository.findPostIdsByMemberId(MEMBER_ID))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of(10L));
+
+        assertThatThrownBy(() -> index.isLiked(MEMBER_ID, 10L)).isInstanceOf(IllegalStateException.class);
+        assertThat(index.isLiked(MEMBER_ID, 10L)).isTrue();
+    }
+
+    @Test
+    void 변경_중에도_읽기는_교체된_집합_단위로_일관되게_보인다() throws Exception {
+        when(postLikeRepository.findPostIdsByMemberId(MEMBER_ID)).thenReturn(List.of());
+        index.isLiked(MEMBER_ID, 1L);
+        List<Long> postIds = LongStream.rangeClosed(1, 500).boxed().toList();
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() ->
+                postIds.forEach(postId -> index.updateAfterCommit(MEMBER_ID, postId, true)));
+
+        // 추가만 일어나므로 읽을 때마다 보이는 좋아요 수는 줄어들지 않음
+        int previous = 0;
+        while (!writer.isDone()) {
+            int current = index.findLiked(MEMBER_ID, postIds).size();
+            assertThat(current).isGreaterThanOrEqualTo(previous);
+            previous = current;
+        }
+        writer.get(5, TimeUnit.SECONDS);
+
+        assertThat(index.findLiked(MEMBER_ID, postIds)).hasSize(500);
+    }
+
+    @Test
+    void 비활성화되면_게시글마다_DB에서_확인한다() {
+        MemberLikedPostIndex disabled = new MemberLikedPostIndex(postLikeRepository, new SimpleMeterRegistry(), false, 1024, 600);
+        when(postLikeRepository.existsByPostIdAndMemberId(10L, MEMBER_ID)).thenReturn(true);
+
+        assertThat(disabled.isLiked(MEMBER_ID, 10L)).isTrue();
+        assertThat(disabled.findLiked(MEMBER_ID, List.of(10L, 11L))).containsExactly(10L);
+        verify(postLikeRepository, never()).findPostIdsByMemberId(anyLong());
+    }
+}
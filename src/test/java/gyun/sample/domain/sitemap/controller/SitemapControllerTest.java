@@ -0,0 +1,104 @@
+package gyun.sample.domain.sitemap.controller;
+
+import gyun.sample.domain.sitemap.payload.dto.SitemapFile;
+import gyun.sample.domain.sitemap.service.SitemapService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class SitemapControllerTest {
+
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n</sitemapindex>\n";
+    private static final String DIGEST = "0123456789abcdef0123456789abcdef";
+
+    @TempDir
+    Path directory;
+
+    private SitemapService sitemapService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = directory.resolve("sitemap.xml.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(XML.getBytes(StandardCharsets.UTF_8));
+        }
+        sitemapService = mock(SitemapService.class);
+        when(sitemapService.isReady()).thenReturn(true);
+        when(sitemapService.getIndex()).thenReturn(Optional.of(
+                new SitemapFile(file, DIGEST, XML.getBytes(StandardCharsets.UTF_8).length)));
+        mockMvc = MockMvcBuilders.standaloneSetup(new SitemapController(sitemapService)).build();
+    }
+
+    @Test
+    void gzip을_받는_클라이언트에는_압축_파일을_그대로_전송() throws Exception {
+        MvcResult result = mockMvc.perform(get("/sitemap.xml").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + DIGEST + "-gz\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        assertThat(gunzip(result.getResponse().getContentAsByteArray())).isEqualTo(XML);
+    }
+
+    @Test
+    void gzip을_받지_않는_클라이언트에는_압축을_풀어_전송() throws Exception {
+        mockMvc.perform(get("/sitemap.xml"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + DIGEST + "\""))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, XML.getBytes(StandardCharsets.UTF_8).length))
+                .andExpect(content().string(XML));
+    }
+
+    @Test
+    void 압축을_풀어_전송할_때도_Range_요청_처리() throws Exception {
+        mockMvc.perform(get("/sitemap.xml").header(HttpHeaders.RANGE, "bytes=0-4"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string(XML.substring(0, 5)));
+    }
+
+    @Test
+    void 일치하는_ETag면_304() throws Exception {
+        mockMvc.perform(get("/sitemap.xml").header(HttpHeaders.IF_NONE_MATCH, "\"" + DIGEST + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void 첫_생성_전에는_503과_Retry_After() throws Exception {
+        when(sitemapService.isReady()).thenReturn(false);
+
+        mockMvc.perform(get("/sitemap.xml"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package gyun.sample.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotatingBloomFilterTest {
+
+    private static final long ONE_HOUR = 60 * 60 * 1000L;
+
+    @Test
+    void 처음_본_키만_true를_반환한다() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1000, 0.01, ONE_HOUR);
+
+        assertThat(filter.putIfAbsent("1:post:10")).isTrue();
+        assertThat(filter.putIfAbsent("1:post:10")).isFalse();
+        assertThat(filter.putIfAbsent("1:post:11")).isTrue();
+    }
+
+    @Test
+    void 거짓_음성이_없고_거짓_양성은_설정한_확률_근처로_제한된다() {
+        int n = 10_000;
+        RotatingBloomFilter filter = new RotatingBloomFilter(n, 0.01, ONE_HOUR);
+
+        int falsePositives = 0;
+        for (int i = 0; i < n; i++) {
+            if (!filter.putIfAbsent("key-" + i)) {
+                falsePositives++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            assertThat(filter.putIfAbsent("key-" + i)).isFalse();
+        }
+        // 채워지는 동안의 누적 거짓 양성률은 최종 fpp(1%)보다 낮음, 여유를 두고 3% 미만 확인
+        assertThat(falsePositives).isLessThan(n * 3 / 100);
+    }
+
+    @Test
+    void 세대가_한_번_교체된_뒤에도_이전_세대의_키를_기억한다() throws InterruptedException {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1000, 0.01, 300);
+        filter.putIfAbsent("key");
+
+        // window(300ms) 경과 후 2 × window 이전: 현재 세대가 이전 세대로 이동
+        Thread.sleep(400);
+
+        assertThat(filter.putIfAbsent("key")).isFalse();
+    }
+
+    @Test
+    void 두_window_이상_지나면_키를_잊는다() throws InterruptedException {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1000, 0.01, 300);
+        filter.putIfAbsent("key");
+
+        Thread.sleep(700);
+
+        assertThat(filter.putIfAbsent("key")).isTrue();
+    }
+}
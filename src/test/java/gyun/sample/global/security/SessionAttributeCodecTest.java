@@ -0,0 +1,141 @@
+package gyun.sample.global.security;
+
+import gyun.sample.domain.account.enums.AccountRole;
+import gyun.sample.domain.member.entity.Member;
+import gyun.sample.domain.member.enums.MemberType;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionAttributeCodecTest {
+
+    private static final byte JAVA_SERIALIZATION = (byte) 0xAC;
+
+    private final SessionAttributeCodec codec = new SessionAttributeCodec(getClass().getClassLoader());
+
+    @Test
+    void 로그인_SecurityContext는_압축_형식으로_왕복한다() {
+        PrincipalDetails principal = principal();
+        UsernamePasswordAuthenticationToken token =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        token.setDetails(new WebAuthenticationDetails("127.0.0.1", "session-1"));
+
+        byte[] bytes = codec.serialize(new SecurityContextImpl(token));
+
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(bytes.length).isLessThan(200);
+
+        Authentication restored = ((SecurityContext) codec.deserialize(bytes)).getAuthentication();
+        assertThat(restored).isInstanceOf(UsernamePasswordAuthenticationToken.class);
+        assertThat(restored.isAuthenticated()).isTrue();
+        assertThat(restored.getCredentials()).isNull();
+        assertThat(restored.getAuthorities()).isEqualTo(principal.getAuthorities());
+        assertPrincipalEquals((PrincipalDetails) restored.getPrincipal(), principal);
+        WebAuthenticationDetails details = (WebAuthenticationDetails) restored.getDetails();
+        assertThat(details.getRemoteAddress()).isEqualTo("127.0.0.1");
+        assertThat(details.getSessionId()).isEqualTo("session-1");
+    }
+
+    @Test
+    void 요청_정보가_없는_SecurityContext도_압축_형식으로_왕복한다() {
+        PrincipalDetails principal = principal();
+        byte[] bytes = codec.serialize(new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())));
+
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        Authentication restored = ((SecurityContext) codec.deserialize(bytes)).getAuthentication();
+        assertThat(restored.getDetails()).isNull();
+        assertPrincipalEquals((PrincipalDetails) restored.getPrincipal(), principal);
+    }
+
+    @Test
+    void 자격_증명이_남아_있는_SecurityContext는_Java_직렬화로_값을_보존한다() {
+        PrincipalDetails principal = principal();
+        SecurityContextImpl context = new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(principal, "credentials", principal.getAuthorities()));
+
+        byte[] bytes = codec.serialize(context);
+
+        assertThat(bytes[0]).isEqualTo(JAVA_SERIALIZATION);
+        Authentication restored = ((SecurityContext) codec.deserialize(bytes)).getAuthentication();
+        assertThat(restored.getCredentials()).isEqualTo("credentials");
+        assertPrincipalEquals((PrincipalDetails) restored.getPrincipal(), principal);
+    }
+
+    @Test
+    void CSRF_토큰은_압축_형식으로_왕복한다() {
+        byte[] bytes = codec.serialize(new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "token-value"));
+
+        assertThat(bytes[0]).isEqualTo((byte) 2);
+        CsrfToken restored = (CsrfToken) codec.deserialize(bytes);
+        assertThat(restored.getHeaderName()).isEqualTo("X-CSRF-TOKEN");
+        assertThat(restored.getParameterName()).isEqualTo("_csrf");
+        assertThat(restored.getToken()).isEqualTo("token-value");
+    }
+
+    @Test
+    void 숫자와_문자열은_형식_태그와_값만_기록한다() {
+        byte[] number = codec.serialize(42L);
+        byte[] text = codec.serialize("안녕하세요");
+
+        assertThat(number).hasSize(1 + Long.BYTES);
+        assertThat(number[0]).isEqualTo((byte) 3);
+        assertThat(codec.deserialize(number)).isEqualTo(42L);
+        assertThat(text[0]).isEqualTo((byte) 4);
+        assertThat(codec.deserialize(text)).isEqualTo("안녕하세요");
+    }
+
+    @Test
+    void 긴_문자열은_Java_직렬화로_처리한다() {
+        String text = "가".repeat(20_000);
+
+        byte[] bytes = codec.serialize(text);
+
+        assertThat(bytes[0]).isEqualTo(JAVA_SERIALIZATION);
+        assertThat(codec.deserialize(bytes)).isEqualTo(text);
+    }
+
+    @Test
+    void 그_외_값은_Java_직렬화로_왕복한다() {
+        ArrayList<String> value = new ArrayList<>(List.of("a", "b"));
+
+        byte[] bytes = codec.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo(JAVA_SERIALIZATION);
+        assertThat(codec.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void 알_수_없는_형식_태그는_역직렬화_실패() {
+        assertThatThrownBy(() -> codec.deserialize(new byte[]{99, 0, 0}))
+                .isInstanceOf(SerializationFailedException.class);
+    }
+
+    private static PrincipalDetails principal() {
+        PrincipalDetails principal = new PrincipalDetails(new Member("user1", "닉네임", MemberType.GOOGLE, "social-key"));
+        assertThat(principal.getRole()).isEqualTo(AccountRole.USER);
+        return principal;
+    }
+
+    private static void assertPrincipalEquals(PrincipalDetails actual, PrincipalDetails expected) {
+        assertThat(actual.getId()).isEqualTo(expected.getId());
+        assertThat(actual.getUsername()).isEqualTo(expected.getUsername());
+        assertThat(actual.getNickName()).isEqualTo(expected.getNickName());
+        assertThat(actual.getRole()).isEqualTo(expected.getRole());
+        assertThat(actual.getMemberType()).isEqualTo(expected.getMemberType());
+        assertThat(actual.getVersion()).isEqualTo(expected.getVersion());
+        assertThat(actual.getPassword()).isNull();
+    }
+}
@@ -0,0 +1,101 @@
+package gyun.sample.global.security.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptThrottleTest {
+
+    private static final String IP = "10.0.0.1";
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginAttemptThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = new LoginAttemptThrottle(meterRegistry, 15, 1000);
+        ReflectionTestUtils.setField(throttle, "enabled", true);
+        ReflectionTestUtils.setField(throttle, "accountDelayThreshold", 3);
+        ReflectionTestUtils.setField(throttle, "accountLockThreshold", 5);
+        ReflectionTestUtils.setField(throttle, "ipDelayThreshold", 100);
+        ReflectionTestUtils.setField(throttle, "ipLockThreshold", 200);
+        // 대기 시간이 테스트 도중 끝나지 않도록 길게 설정
+        ReflectionTestUtils.setField(throttle, "baseDelayMillis", 60_000L);
+        ReflectionTestUtils.setField(throttle, "maxDelayMillis", 600_000L);
+    }
+
+    @Test
+    void 대기_기준_미만의_실패는_허용한다() {
+        fail("user", 2);
+
+        assertThatCode(() -> throttle.checkAllowed("user", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void 대기_기준_이상이면_대기_시간_동안_거절한다() {
+        fail("user", 3);
+
+        assertThatThrownBy(() -> throttle.checkAllowed("user", IP))
+                .isInstanceOf(LoginThrottledException.class)
+                .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfterSeconds()).isBetween(1L, 60L));
+        assertThat(meterRegistry.counter("login.throttle.rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 대기_시간이_지났으면_대기_기준_이상이어도_허용한다() {
+        ReflectionTestUtils.setField(throttle, "baseDelayMillis", 0L);
+        fail("user", 4);
+
+        assertThatCode(() -> throttle.checkAllowed("user", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void 잠금_기준_이상이면_대기_시간과_무관하게_윈도_동안_거절한다() {
+        ReflectionTestUtils.setField(throttle, "baseDelayMillis", 0L);
+        fail("user", 5);
+
+        assertThatThrownBy(() -> throttle.checkAllowed("user", IP))
+                .isInstanceOf(LoginThrottledException.class)
+                .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfterSeconds()).isBetween(60L, 15 * 60L));
+    }
+
+    @Test
+    void 로그인_ID는_대소문자와_앞뒤_공백을_구분하지_않는다() {
+        fail(" User ", 2);
+        fail("user", 1);
+
+        assertThatThrownBy(() -> throttle.checkAllowed("USER", IP)).isInstanceOf(LoginThrottledException.class);
+    }
+
+    @Test
+    void 로그인_성공은_계정_기록만_초기화하고_IP_기록은_유지한다() {
+        ReflectionTestUtils.setField(throttle, "ipDelayThreshold", 3);
+        fail("user", 3);
+
+        throttle.recordSuccess("user");
+
+        // 계정 기록은 초기화되었지만 같은 IP에서 다른 계정으로 시도해도 IP 기준으로 거절
+        assertThatThrownBy(() -> throttle.checkAllowed("other", IP)).isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> throttle.checkAllowed("user", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void 비활성화되면_기록과_거절을_하지_않는다() {
+        ReflectionTestUtils.setField(throttle, "enabled", false);
+        fail("user", 10);
+
+        assertThatCode(() -> throttle.checkAllowed("user", IP)).doesNotThrowAnyException();
+    }
+
+    private void fail(String loginId, int times) {
+        for (int i = 0; i < times; i++) {
+            throttle.recordFailure(loginId, IP);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package gyun.sample.global.security.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    // 10초 윈도, 1초 버킷 10개
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+
+    @Test
+    void 윈도_안의_증가분을_합산한다() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 10, 4, 100);
+
+        assertThat(counter.increment("user", 0)).isEqualTo(1);
+        assertThat(counter.increment("user", 500)).isEqualTo(2);
+        assertThat(counter.increment("user", 5_000)).isEqualTo(3);
+
+        SlidingWindowCounter.Snapshot snapshot = counter.get("user", 9_999);
+        assertThat(snapshot.count()).isEqualTo(3);
+        assertThat(snapshot.lastAt()).isEqualTo(5_000);
+    }
+
+    @Test
+    void 윈도를_벗어난_버킷은_합계에서_빠진다() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 10, 4, 100);
+        counter.increment("user", 0);
+        counter.increment("user", 0);
+        counter.increment("user", 5_000);
+
+        // 0초 버킷이 윈도에서 빠지고 5초 버킷만 남음
+        assertThat(counter.get("user", 10_000).count()).isEqualTo(1);
+        // 5초 버킷까지 빠지면 빈 결과
+        assertThat(counter.get("user", 15_000)).isEqualTo(new SlidingWindowCounter.Snapshot(0, 0L));
+    }
+
+    @Test
+    void 같은_위치의_버킷을_재사용할_때_이전_주기_개수를_초기화한다() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 10, 4, 100);
+        counter.increment("user", 0);
+        counter.increment("user", 0);
+
+        // 10초 후 같은 버킷 위치(0번)에 기록되지만 이전 주기 개수는 합산되지 않음
+        assertThat(counter.increment("user", 10_000)).isEqualTo(1);
+    }
+
+    @Test
+    void 키별로_따로_집계하고_reset은_해당_키만_지운다() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 10, 4, 100);
+        counter.increment("a", 0);
+        counter.increment("a", 0);
+        counter.increment("b", 0);
+
+        counter.reset("a");
+
+        assertThat(counter.get("a", 0).count()).isZero();
+        assertThat(counter.get("b", 0).count()).isEqualTo(1);
+    }
+
+    @Test
+    void 키_수_상한을_넘으면_가장_오래_사용하지_않은_키를_제거한다() {
+        // 스트라이프 1개, 키 2개까지 보관
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 10, 1, 2);
+        counter.increment("a", 0);
+        counter.increment("b", 0);
+        // a를 최근 사용으로 갱신
+        counter.get("a", 0);
+
+        counter.increment("c", 0);
+
+        assertThat(counter.get("a", 0).count()).isEqualTo(1);
+        assertThat(counter.get("b", 0).count()).isZero();
+        assertThat(counter.get("c", 0).count()).isEqualTo(1);
+    }
+}